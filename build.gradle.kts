@@ -47,10 +47,14 @@ allprojects {
     }
 }
 
+// Registry snapshots are generated from the data dependency
+evaluationDependsOn(":code-generators")
+
 sourceSets {
     main {
         java.srcDir(file("src/main/java"))
         java.srcDir(file("src/autogenerated/java"))
+        resources.srcDir(project(":code-generators").tasks.named("generateRegistrySnapshots"))
     }
 }
 
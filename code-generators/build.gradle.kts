@@ -25,4 +25,13 @@ tasks {
     getByName<JavaExec>("run") {
         args = listOf(rootProject.projectDir.resolve("src/autogenerated/java").absolutePath)
     }
+
+    // Binary registry snapshots, bundled with the server resources
+    register<JavaExec>("generateRegistrySnapshots") {
+        val output = rootProject.layout.buildDirectory.dir("generated/registry-snapshots")
+        classpath = sourceSets["main"].runtimeClasspath
+        mainClass.set("net.minestom.codegen.registry.RegistrySnapshotGenerator")
+        args = listOf(output.get().asFile.absolutePath)
+        outputs.dir(output)
+    }
 }
@@ -0,0 +1,180 @@
+package net.minestom.codegen.registry;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import net.minestom.codegen.MinestomCodeGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * Converts a registry JSON file into the binary snapshot read by {@code net.minestom.server.registry.RegistrySnapshot}.
+ * <p>
+ * Layout (big endian):
+ * <pre>
+ * int magic, byte version, int sourceLength, int sourceCrc32
+ * varint stringCount, (varint length, utf8 bytes) * stringCount
+ * varint entryCount, (varint nameIndex, varint byteLength, value) * entryCount
+ * </pre>
+ * Values are tagged: map (varint size, (varint keyIndex, value) * size), list (varint size, value * size),
+ * string (varint index), long (8 bytes), double (8 bytes), true, false.
+ * Every string is deduplicated in the table, including map keys.
+ * The source length and CRC32 let the server ignore a snapshot generated from another version of the JSON.
+ */
+public final class RegistrySnapshotGenerator extends MinestomCodeGenerator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RegistrySnapshotGenerator.class);
+    // Registry resources loaded at startup, see Registry.Resource
+    private static final String[] REGISTRIES = {
+            "blocks.json", "items.json", "entities.json", "enchantments.json", "sounds.json",
+            "command_arguments.json", "custom_statistics.json", "potion_effects.json", "potions.json",
+            "particles.json", "damage_types.json",
+            "tags/block_tags.json", "tags/entity_type_tags.json", "tags/fluid_tags.json",
+            "tags/gameplay_tags.json", "tags/item_tags.json"
+    };
+
+    // Must be kept in sync with RegistrySnapshot
+    static final int MAGIC = 0x4D524547; // MREG
+    static final byte VERSION = 2;
+    static final byte TAG_MAP = 0;
+    static final byte TAG_LIST = 1;
+    static final byte TAG_STRING = 2;
+    static final byte TAG_LONG = 3;
+    static final byte TAG_DOUBLE = 4;
+    static final byte TAG_TRUE = 5;
+    static final byte TAG_FALSE = 6;
+
+    private final String resourceName;
+    private final InputStream registryFile;
+    private final File outputFolder;
+
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+
+    public RegistrySnapshotGenerator(@NotNull String resourceName, @Nullable InputStream registryFile, @NotNull File outputFolder) {
+        this.resourceName = resourceName;
+        this.registryFile = registryFile;
+        this.outputFolder = outputFolder;
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            LOGGER.error("Usage: <resources target folder>");
+            return;
+        }
+        final File outputFolder = new File(args[0]);
+        for (String registry : REGISTRIES) {
+            new RegistrySnapshotGenerator(registry, RegistrySnapshotGenerator.class.getResourceAsStream("/" + registry), outputFolder).generate();
+        }
+        LOGGER.info("Finished generating registry snapshots");
+    }
+
+    @Override
+    public void generate() {
+        if (registryFile == null) {
+            LOGGER.error("Failed to find " + resourceName + ".");
+            LOGGER.error("Stopped snapshot generation for " + resourceName + ".");
+            return;
+        }
+        final File target = new File(outputFolder, "registry/" + resourceName.replace(".json", ".bin"));
+        if (!target.getParentFile().exists() && !target.getParentFile().mkdirs()) {
+            LOGGER.error("Output folder for registry snapshots does not exist and could not be created.");
+            return;
+        }
+        try {
+            final byte[] source;
+            try (InputStream stream = registryFile) {
+                source = stream.readAllBytes();
+            }
+            final CRC32 crc = new CRC32();
+            crc.update(source);
+            final JsonObject registry = GSON.fromJson(new InputStreamReader(new ByteArrayInputStream(source), StandardCharsets.UTF_8), JsonObject.class);
+            // Entries first, to fill the string table
+            List<byte[]> entries = new ArrayList<>(registry.size());
+            List<Integer> names = new ArrayList<>(registry.size());
+            for (var entry : registry.entrySet()) {
+                names.add(string(entry.getKey()));
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(bytes);
+                writeValue(out, entry.getValue());
+                out.flush();
+                entries.add(bytes.toByteArray());
+            }
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(target)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeInt(source.length);
+                out.writeInt((int) crc.getValue());
+                writeVarInt(out, strings.size());
+                for (String string : strings.keySet()) {
+                    final byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+                    writeVarInt(out, utf8.length);
+                    out.write(utf8);
+                }
+                writeVarInt(out, entries.size());
+                for (int i = 0; i < entries.size(); i++) {
+                    final byte[] value = entries.get(i);
+                    writeVarInt(out, names.get(i));
+                    writeVarInt(out, value.length);
+                    out.write(value);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("An error occured while writing the registry snapshot " + target + ".", e);
+        }
+    }
+
+    private void writeValue(DataOutputStream out, JsonElement element) throws IOException {
+        if (element instanceof JsonObject object) {
+            out.writeByte(TAG_MAP);
+            writeVarInt(out, object.size());
+            for (var entry : object.entrySet()) {
+                writeVarInt(out, string(entry.getKey()));
+                writeValue(out, entry.getValue());
+            }
+        } else if (element instanceof JsonArray array) {
+            out.writeByte(TAG_LIST);
+            writeVarInt(out, array.size());
+            for (JsonElement value : array) writeValue(out, value);
+        } else if (element instanceof JsonPrimitive primitive) {
+            if (primitive.isBoolean()) {
+                out.writeByte(primitive.getAsBoolean() ? TAG_TRUE : TAG_FALSE);
+            } else if (primitive.isNumber()) {
+                // Same conversion as ToNumberPolicy.LONG_OR_DOUBLE used by the JSON loader
+                final String number = primitive.getAsString();
+                try {
+                    final long value = Long.parseLong(number);
+                    out.writeByte(TAG_LONG);
+                    out.writeLong(value);
+                } catch (NumberFormatException e) {
+                    out.writeByte(TAG_DOUBLE);
+                    out.writeDouble(Double.parseDouble(number));
+                }
+            } else {
+                out.writeByte(TAG_STRING);
+                writeVarInt(out, string(primitive.getAsString()));
+            }
+        } else {
+            throw new IllegalStateException("Unsupported registry element: " + element);
+        }
+    }
+
+    private int string(String value) {
+        return strings.computeIfAbsent(value, s -> strings.size());
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+}
@@ -1,6 +1,7 @@
 package net.minestom.server.command;
 
 import net.minestom.server.command.builder.Command;
+import net.minestom.server.command.builder.arguments.Argument;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
@@ -22,7 +23,12 @@ import static net.minestom.server.command.builder.arguments.ArgumentType.*;
 @Warmup(time = 2, iterations = 3)
 @Measurement(time = 6)
 public class CommandBenchmark {
+    @Param({"default", "compiled"})
+    public String parserType;
+
     Function<String, Object> parser;
+    Function<String, Object> suggestionParser;
+    Function<String, Object> deepParser;
 
     @Setup
     public void setup() {
@@ -55,8 +61,22 @@ public class CommandBenchmark {
                     addSyntax((sender, context) -> {}, Literal("long"), Long("val"));
                 }}
         ));
-        final CommandParser commandParser = CommandParser.parser();
-        this.parser = input -> commandParser.parse(graph, input);
+        // Deep tree, 8 levels of 10 literals with an argument at each level
+        var deepGraph = Graph.merge(Set.of(new Command("deep") {{
+            for (int i = 0; i < 10; i++) {
+                Argument<?>[] args = new Argument[16];
+                for (int depth = 0; depth < 8; depth++) {
+                    args[depth * 2] = Literal("level" + depth + "_" + i);
+                    args[depth * 2 + 1] = Word("arg" + depth);
+                }
+                addSyntax((sender, context) -> {}, args);
+            }
+        }}));
+        final CommandParser commandParser = parserType.equals("compiled") ? CommandParser.compiled() : CommandParser.parser();
+        final CommandSender sender = new ServerSender();
+        this.parser = input -> commandParser.parse(sender, graph, input);
+        this.suggestionParser = input -> commandParser.parseSuggestion(sender, deepGraph, input).suggestion(sender);
+        this.deepParser = input -> commandParser.parse(sender, deepGraph, input);
     }
 
     @Benchmark
@@ -102,4 +122,30 @@ public class CommandBenchmark {
         bh.consume(parser.apply("parse double a1234567890"));
         bh.consume(parser.apply("parse long a1234567890"));
     }
+
+    @Benchmark
+    public void deepTree(Blackhole bh) {
+        bh.consume(deepParser.apply("deep level0_9 a level1_9 b level2_9 c level3_9 d level4_9 e level5_9 f level6_9 g level7_9 h"));
+    }
+
+    @Benchmark
+    public void deepTreeInvalid(Blackhole bh) {
+        bh.consume(deepParser.apply("deep level0_9 a level1_9 b level2_9 c level3_9 d level4_9 e level5_9 f level6_9 g level7_0 h"));
+    }
+
+    @Benchmark
+    public void tabCompleteStorm(Blackhole bh) {
+        // Simulates a client sending a tab complete packet for every typed character
+        final String input = "deep level0_9 a level1_9 b level2_9 c level3_9 d";
+        for (int i = 1; i <= input.length(); i++) {
+            bh.consume(suggestionParser.apply(input.substring(0, i)));
+        }
+    }
+
+    @Benchmark
+    public void tabCompleteStormUnknown(Blackhole bh) {
+        for (int i = 0; i < 50; i++) {
+            bh.consume(suggestionParser.apply("unknown" + i));
+        }
+    }
 }
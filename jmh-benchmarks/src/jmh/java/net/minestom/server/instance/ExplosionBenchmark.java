@@ -0,0 +1,81 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ExplosionBenchmark {
+
+    @Param({"4", "8"})
+    public float strength;
+
+    private Instance instance;
+    private RaycastExplosion explosion;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        instance.setGenerator(unit -> unit.modifier().fillHeight(0, 40, Block.STONE));
+        for (int x = -2; x <= 2; x++) {
+            for (int z = -2; z <= 2; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+        explosion = new RaycastExplosion(0.5f, 40, 0.5f, strength, true, false, new Random(0));
+    }
+
+    @Benchmark
+    public List<Point> raycast() {
+        return explosion.prepare(instance);
+    }
+
+    @Benchmark
+    public List<Point> instanceGetBlock() {
+        // Same rays, reading each step with Instance#getBlock
+        final Random random = new Random(0);
+        Set<Point> destroyed = new HashSet<>();
+        for (int i = 0; i < 16; i++) {
+            for (int j = 0; j < 16; j++) {
+                for (int k = 0; k < 16; k++) {
+                    if (i != 0 && i != 15 && j != 0 && j != 15 && k != 0 && k != 15) continue;
+                    double dx = i / 15.0 * 2 - 1, dy = j / 15.0 * 2 - 1, dz = k / 15.0 * 2 - 1;
+                    final double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+                    dx = dx / length * 0.3;
+                    dy = dy / length * 0.3;
+                    dz = dz / length * 0.3;
+                    double x = 0.5, y = 40, z = 0.5;
+                    double intensity = strength * (0.7 + random.nextDouble() * 0.6);
+                    while (intensity > 0) {
+                        final Vec position = new Vec(Math.floor(x), Math.floor(y), Math.floor(z));
+                        final Block block = instance.getBlock(position);
+                        if (!block.isAir()) {
+                            intensity -= (block.registry().explosionResistance() + 0.3) * 0.3;
+                            if (intensity > 0) destroyed.add(position);
+                        }
+                        x += dx;
+                        y += dy;
+                        z += dz;
+                        intensity -= 0.22500001;
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(destroyed);
+    }
+}
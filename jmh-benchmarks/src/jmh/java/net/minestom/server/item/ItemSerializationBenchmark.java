@@ -0,0 +1,73 @@
+package net.minestom.server.item;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.entity.EquipmentSlot;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.play.EntityEquipmentPacket;
+import net.minestom.server.network.packet.server.play.WindowItemsPacket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static net.minestom.server.network.NetworkBuffer.*;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ItemSerializationBenchmark {
+
+    List<ItemStack> items;
+    WindowItemsPacket windowItemsPacket;
+    EntityEquipmentPacket equipmentPacket;
+    NetworkBuffer buffer;
+
+    @Setup
+    public void setup() {
+        ItemStack item = ItemStack.builder(Material.DIAMOND_SWORD)
+                .displayName(Component.text("Legendary sword"))
+                .lore(Component.text("First line of lore"), Component.text("Second line of lore"),
+                        Component.text("Third line of lore"), Component.text("Fourth line of lore"))
+                .meta(builder -> builder.enchantment(Enchantment.SHARPNESS, (short) 5)
+                        .enchantment(Enchantment.UNBREAKING, (short) 3)
+                        .enchantment(Enchantment.FIRE_ASPECT, (short) 2))
+                .build();
+        this.items = new ArrayList<>();
+        for (int i = 0; i < 46; i++) items.add(item.withAmount(i % 3 + 1));
+        this.windowItemsPacket = new WindowItemsPacket((byte) 0, 0, items, ItemStack.AIR);
+        this.equipmentPacket = new EntityEquipmentPacket(1, Map.of(
+                EquipmentSlot.MAIN_HAND, item, EquipmentSlot.OFF_HAND, item,
+                EquipmentSlot.HELMET, item, EquipmentSlot.CHESTPLATE, item,
+                EquipmentSlot.LEGGINGS, item, EquipmentSlot.BOOTS, item));
+        this.buffer = new NetworkBuffer();
+    }
+
+    @Benchmark
+    public void windowItems() {
+        buffer.clear();
+        windowItemsPacket.write(buffer);
+    }
+
+    @Benchmark
+    public void windowItemsNbt() {
+        // Previous behavior, item nbt encoded on each write
+        buffer.clear();
+        for (ItemStack item : items) {
+            buffer.write(BOOLEAN, true);
+            buffer.write(VAR_INT, item.material().id());
+            buffer.write(BYTE, (byte) item.amount());
+            buffer.write(NBT, item.meta().toNBT());
+        }
+    }
+
+    @Benchmark
+    public void equipment() {
+        buffer.clear();
+        equipmentPacket.write(buffer);
+    }
+}
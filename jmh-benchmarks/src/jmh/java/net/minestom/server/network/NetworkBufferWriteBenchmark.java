@@ -0,0 +1,76 @@
+package net.minestom.server.network;
+
+import org.jglrxavpok.hephaistos.nbt.NBT;
+import org.jglrxavpok.hephaistos.nbt.NBTCompound;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class NetworkBufferWriteBenchmark {
+
+    String identifier;
+    long value;
+    NBTCompound compound;
+    NetworkBuffer buffer;
+
+    @Setup
+    public void setup() {
+        this.identifier = "minecraft:overworld_caves";
+        this.value = Long.MAX_VALUE >> 3;
+        this.compound = NBT.Compound(Map.of(
+                "name", NBT.String("minecraft:diamond_sword"),
+                "blocks", NBT.LongArray(new long[256]),
+                "data", NBT.ByteArray(new byte[512])));
+        this.buffer = new NetworkBuffer();
+    }
+
+    @Benchmark
+    public void string() {
+        buffer.clear();
+        buffer.write(NetworkBuffer.STRING, identifier);
+    }
+
+    @Benchmark
+    public void stringEncoded() {
+        // Previous behavior, string encoded to an intermediate array
+        buffer.clear();
+        final byte[] bytes = identifier.getBytes(StandardCharsets.UTF_8);
+        buffer.write(NetworkBuffer.VAR_INT, bytes.length);
+        buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+    }
+
+    @Benchmark
+    public void varLong() {
+        buffer.clear();
+        buffer.write(NetworkBuffer.VAR_LONG, value);
+    }
+
+    @Benchmark
+    public void nbt() {
+        buffer.clear();
+        buffer.write(NetworkBuffer.NBT, compound);
+    }
+
+    @Benchmark
+    public byte[] makeArray() {
+        return NetworkBuffer.makeArray(buffer -> buffer.write(NetworkBuffer.NBT, compound));
+    }
+
+    @Benchmark
+    public byte[] makeArrayDirect() {
+        // Previous behavior, direct buffer allocated for each array
+        NetworkBuffer writer = new NetworkBuffer();
+        writer.write(NetworkBuffer.NBT, compound);
+        byte[] bytes = new byte[writer.writeIndex()];
+        writer.copyTo(0, bytes, 0, bytes.length);
+        return bytes;
+    }
+}
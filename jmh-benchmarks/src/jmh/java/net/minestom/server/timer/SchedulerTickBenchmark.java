@@ -15,7 +15,11 @@ public class SchedulerTickBenchmark {
     @Param({"0", "1", "5"})
     public int tickTasks;
 
+    @Param({"0", "100000"})
+    public int pendingTasks;
+
     Scheduler scheduler;
+    int counter;
 
     @Setup
     public void setup() {
@@ -24,10 +28,36 @@ public class SchedulerTickBenchmark {
             this.scheduler.scheduleTask(() -> {
             }, TaskSchedule.nextTick(), TaskSchedule.nextTick());
         }
+        // Long-lived tasks spread over the next minutes (e.g. despawns)
+        for (int i = 0; i < this.pendingTasks; i++) {
+            this.scheduler.buildTask(() -> {
+            }).delay(TaskSchedule.tick(100 + i % 10_000)).schedule();
+        }
     }
 
     @Benchmark
     public void call() {
         this.scheduler.processTick();
     }
+
+    @Benchmark
+    public void scheduleCooldown() {
+        // Short-lived per-entity task expiring within a few seconds
+        this.scheduler.buildTask(() -> {
+        }).delay(TaskSchedule.tick(20 + (counter++ & 127))).schedule();
+        this.scheduler.processTick();
+    }
+
+    @Benchmark
+    public void scheduleAndCancel() {
+        // Cooldowns cancelled before expiring
+        this.scheduler.buildTask(() -> {
+        }).delay(TaskSchedule.tick(20 + (counter++ & 127))).schedule().cancel();
+    }
+
+    @Benchmark
+    public void scheduleDuration() {
+        this.scheduler.buildTask(() -> {
+        }).delay(TaskSchedule.millis(500)).schedule().cancel();
+    }
 }
@@ -12,6 +12,7 @@ import net.minestom.server.exception.ExceptionManager;
 import net.minestom.server.gamedata.tags.TagManager;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.InstanceContainer;
 import net.minestom.server.instance.InstanceManager;
 import net.minestom.server.instance.block.BlockManager;
 import net.minestom.server.listener.manager.PacketListenerManager;
@@ -266,6 +267,9 @@ final class ServerProcessImpl implements ServerProcess {
             // Server tick (chunks/entities)
             serverTick(msTime);
 
+            // Coalesced boss bar changes
+            bossBar().flush();
+
             // Flush all waiting packets
             PacketUtils.flush();
 
@@ -290,6 +294,11 @@ final class ServerProcessImpl implements ServerProcess {
             // Tick all chunks (and entities inside)
             dispatcher().updateAndAwait(tickStart);
 
+            // Send the block changes of the tick
+            for (Instance instance : instance().getInstances()) {
+                if (instance instanceof InstanceContainer container) container.flushBlockChanges();
+            }
+
             // Clear removed entities & update threads
             final long tickTime = System.currentTimeMillis() - tickStart;
             dispatcher().refreshThreads(tickTime);
@@ -0,0 +1,95 @@
+package net.minestom.server.adventure.audience;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.EventFilter;
+import net.minestom.server.event.EventNode;
+import net.minestom.server.event.player.PlayerDisconnectEvent;
+import net.minestom.server.event.player.PlayerSpawnEvent;
+import net.minestom.server.event.trait.PlayerEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * A persistent group of players matching a predicate, maintained incrementally.
+ * <p>
+ * Unlike {@link Audiences#players(Predicate)}, the predicate is not run for each message:
+ * it is tested once a player spawns (joining the server or changing instance),
+ * and when {@link #update(Player)} is called after a change the server cannot observe (permissions, tags).
+ * Disconnected players are removed.
+ * <p>
+ * Packets are sent grouped, framed once for all the members.
+ */
+public final class AudienceGroup implements PacketGroupingAudience {
+    private final Predicate<Player> filter;
+    private final EventNode<PlayerEvent> node;
+    private final CopyOnWriteArrayList<Player> players = new CopyOnWriteArrayList<>();
+    private final List<Player> unmodifiablePlayers = Collections.unmodifiableList(players);
+
+    private AudienceGroup(@NotNull Predicate<Player> filter) {
+        this.filter = filter;
+        this.node = EventNode.type("audience-group", EventFilter.PLAYER)
+                .addListener(PlayerSpawnEvent.class, event -> update(event.getPlayer()))
+                .addListener(PlayerDisconnectEvent.class, event -> remove(event.getPlayer()));
+    }
+
+    /**
+     * Creates a group of the online players matching a predicate, and listens for its future members.
+     * <p>
+     * The group must be {@link #close() closed} once unused.
+     *
+     * @param filter the membership predicate
+     * @return the new group
+     */
+    public static @NotNull AudienceGroup create(@NotNull Predicate<Player> filter) {
+        AudienceGroup group = new AudienceGroup(filter);
+        MinecraftServer.getGlobalEventHandler().addChild(group.node);
+        group.updateAll();
+        return group;
+    }
+
+    /**
+     * Re-evaluates the predicate for a player, to be called after a change affecting its membership.
+     *
+     * @param player the player to update
+     */
+    public void update(@NotNull Player player) {
+        if (player.isOnline() && filter.test(player)) {
+            this.players.addIfAbsent(player);
+        } else {
+            remove(player);
+        }
+    }
+
+    /**
+     * Re-evaluates the predicate for every online player.
+     */
+    public void updateAll() {
+        for (Player player : MinecraftServer.getConnectionManager().getOnlinePlayers()) {
+            update(player);
+        }
+        this.players.removeIf(player -> !player.isOnline());
+    }
+
+    /**
+     * Stops tracking the group members, the group is empty afterward.
+     */
+    public void close() {
+        MinecraftServer.getGlobalEventHandler().removeChild(node);
+        this.players.clear();
+    }
+
+    @Override
+    public @NotNull Collection<@NotNull Player> getPlayers() {
+        return unmodifiablePlayers;
+    }
+
+    private void remove(Player player) {
+        this.players.remove(player);
+    }
+}
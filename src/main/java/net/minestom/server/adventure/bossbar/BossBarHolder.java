@@ -8,19 +8,29 @@ import net.minestom.server.entity.Player;
 import net.minestom.server.network.packet.server.play.BossBarPacket;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A holder of a boss bar. This class is not intended for public use, instead you should
  * use {@link BossBarManager} to manage boss bars for players.
  */
 final class BossBarHolder implements Viewable {
+    static final int TITLE_CHANGE = 1;
+    static final int PROGRESS_CHANGE = 1 << 1;
+    static final int STYLE_CHANGE = 1 << 2;
+    static final int FLAGS_CHANGE = 1 << 3;
+
     final UUID uuid = UUID.randomUUID();
     final Set<Player> players = new CopyOnWriteArraySet<>();
     final BossBar bar;
+    // Changes waiting for the next flush, see BossBarManager#flush()
+    final AtomicInteger pendingChanges = new AtomicInteger();
 
     BossBarHolder(@NotNull BossBar bar) {
         this.bar = bar;
@@ -58,6 +68,21 @@ final class BossBarHolder implements Viewable {
         return new BossBarPacket(uuid, new BossBarPacket.UpdateStyleAction(bar.color(), overlay));
     }
 
+    /**
+     * Creates the packets bringing viewers up to date with the bar current state.
+     *
+     * @param changes the changed fields
+     * @return the update packets, one per changed action
+     */
+    @NotNull List<BossBarPacket> createUpdates(int changes) {
+        List<BossBarPacket> packets = new ArrayList<>(Integer.bitCount(changes));
+        if ((changes & PROGRESS_CHANGE) != 0) packets.add(createPercentUpdate(bar.progress()));
+        if ((changes & TITLE_CHANGE) != 0) packets.add(createTitleUpdate(bar.name()));
+        if ((changes & STYLE_CHANGE) != 0) packets.add(createColorUpdate(bar.color()));
+        if ((changes & FLAGS_CHANGE) != 0) packets.add(createFlagsUpdate());
+        return packets;
+    }
+
     @Override
     public boolean addViewer(@NotNull Player player) {
         return this.players.add(player);
@@ -29,35 +29,39 @@ class BossBarListener implements BossBar.Listener {
 
     @Override
     public void bossBarNameChanged(@NotNull BossBar bar, @NotNull Component oldName, @NotNull Component newName) {
-        this.doIfRegistered(bar, holder -> PacketUtils.sendGroupedPacket(holder.players, holder.createTitleUpdate(newName)));
+        this.doIfRegistered(bar, BossBarHolder.TITLE_CHANGE, holder -> PacketUtils.sendGroupedPacket(holder.players, holder.createTitleUpdate(newName)));
     }
 
     @Override
     public void bossBarProgressChanged(@NotNull BossBar bar, float oldProgress, float newProgress) {
-        this.doIfRegistered(bar, holder -> PacketUtils.sendGroupedPacket(holder.players, holder.createPercentUpdate(newProgress)));
+        this.doIfRegistered(bar, BossBarHolder.PROGRESS_CHANGE, holder -> PacketUtils.sendGroupedPacket(holder.players, holder.createPercentUpdate(newProgress)));
 
     }
 
     @Override
     public void bossBarColorChanged(@NotNull BossBar bar, @NotNull BossBar.Color oldColor, @NotNull BossBar.Color newColor) {
-        this.doIfRegistered(bar, holder -> PacketUtils.sendGroupedPacket(holder.players, holder.createColorUpdate(newColor)));
+        this.doIfRegistered(bar, BossBarHolder.STYLE_CHANGE, holder -> PacketUtils.sendGroupedPacket(holder.players, holder.createColorUpdate(newColor)));
     }
 
     @Override
     public void bossBarOverlayChanged(@NotNull BossBar bar, BossBar.@NotNull Overlay oldOverlay, BossBar.@NotNull Overlay newOverlay) {
-        this.doIfRegistered(bar, holder -> PacketUtils.sendGroupedPacket(holder.players, holder.createOverlayUpdate(newOverlay)));
+        this.doIfRegistered(bar, BossBarHolder.STYLE_CHANGE, holder -> PacketUtils.sendGroupedPacket(holder.players, holder.createOverlayUpdate(newOverlay)));
     }
 
     @Override
     public void bossBarFlagsChanged(@NotNull BossBar bar, @NotNull Set<BossBar.Flag> flagsAdded, @NotNull Set<BossBar.Flag> flagsRemoved) {
-        this.doIfRegistered(bar, holder -> PacketUtils.sendGroupedPacket(holder.players, holder.createFlagsUpdate()));
+        this.doIfRegistered(bar, BossBarHolder.FLAGS_CHANGE, holder -> PacketUtils.sendGroupedPacket(holder.players, holder.createFlagsUpdate()));
     }
 
-    private void doIfRegistered(@NotNull BossBar bar, @NotNull Consumer<BossBarHolder> consumer) {
+    private void doIfRegistered(@NotNull BossBar bar, int change, @NotNull Consumer<BossBarHolder> consumer) {
         BossBarHolder holder = this.manager.bars.get(bar);
 
         if (holder != null) {
-            consumer.accept(holder);
+            if (this.manager.hasBatchedUpdates()) {
+                this.manager.markChanged(holder, change);
+            } else {
+                consumer.accept(holder);
+            }
         }
     }
 }
@@ -4,7 +4,10 @@ import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.bossbar.BossBar;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.play.BossBarPacket;
 import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.PropertyUtils;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -19,13 +22,20 @@ import java.util.concurrent.ConcurrentHashMap;
  * <a href="https://github.com/VelocityPowered/Velocity">Velocity</a>'s boss bar
  * management system.</p>
  *
+ * <p>When {@link #setBatchedUpdates(boolean) batched updates} are enabled, boss bar changes are coalesced
+ * and sent once per tick, see {@link #flush()}.</p>
+ *
  * @see Audience#showBossBar(BossBar)
  * @see Audience#hideBossBar(BossBar)
  */
 public class BossBarManager {
+    static final boolean BATCHED_UPDATES = PropertyUtils.getBoolean("minestom.bossbar.batched-updates", false);
+
     private final BossBarListener listener = new BossBarListener(this);
     private final Map<UUID, Set<BossBarHolder>> playerBars = new ConcurrentHashMap<>();
+    private final Set<BossBarHolder> changedBars = ConcurrentHashMap.newKeySet();
     final Map<BossBar, BossBarHolder> bars = new ConcurrentHashMap<>();
+    private volatile boolean batchedUpdates = BATCHED_UPDATES;
 
     /**
      * Creates a new boss bar manager.
@@ -150,6 +160,56 @@ public class BossBarManager {
                 Collections.unmodifiableCollection(holder.players) : List.of();
     }
 
+    /**
+     * Gets if boss bar changes are sent once per tick instead of immediately.
+     *
+     * @return true if boss bar updates are batched
+     * @see #setBatchedUpdates(boolean)
+     */
+    @ApiStatus.Experimental
+    public boolean hasBatchedUpdates() {
+        return batchedUpdates;
+    }
+
+    /**
+     * Changes if boss bar changes are coalesced and sent once per tick instead of immediately.
+     * <p>
+     * Defaults to the {@code minestom.bossbar.batched-updates} system property.
+     *
+     * @param batchedUpdates true to batch boss bar updates
+     */
+    @ApiStatus.Experimental
+    public void setBatchedUpdates(boolean batchedUpdates) {
+        this.batchedUpdates = batchedUpdates;
+        if (!batchedUpdates) flush();
+    }
+
+    /**
+     * Sends the pending boss bar changes, one update per changed action and bar.
+     * <p>
+     * Called at the end of each tick, does nothing unless {@link #setBatchedUpdates(boolean) batched updates} are enabled.
+     */
+    @ApiStatus.Internal
+    public void flush() {
+        if (changedBars.isEmpty()) return;
+        Iterator<BossBarHolder> iterator = changedBars.iterator();
+        while (iterator.hasNext()) {
+            final BossBarHolder holder = iterator.next();
+            iterator.remove();
+            final int changes = holder.pendingChanges.getAndSet(0);
+            if (changes == 0 || holder.players.isEmpty() || bars.get(holder.bar) != holder) continue;
+            for (BossBarPacket packet : holder.createUpdates(changes)) {
+                PacketUtils.sendGroupedPacket(holder.players, packet);
+            }
+        }
+    }
+
+    void markChanged(@NotNull BossBarHolder holder, int change) {
+        if (holder.pendingChanges.getAndUpdate(changes -> changes | change) == 0) {
+            this.changedBars.add(holder);
+        }
+    }
+
     /**
      * Gets or creates a handler for this bar.
      *
@@ -25,16 +25,19 @@ import java.util.concurrent.Callable;
  */
 public final class CommandManager {
     private static final boolean ASYNC_VIRTUAL = Boolean.getBoolean("minestom.command.async-virtual");
+    private static final boolean COMPILED_PARSER = Boolean.getBoolean("minestom.command.compiled-parser");
 
     public static final String COMMAND_PREFIX = "/";
 
     private final ServerSender serverSender = new ServerSender();
     private final ConsoleSender consoleSender = new ConsoleSender();
-    private final CommandParser parser = CommandParser.parser();
+    private final CommandParser parser = COMPILED_PARSER ? CommandParser.compiled() : CommandParser.parser();
     private final CommandDispatcher dispatcher = new CommandDispatcher(this);
     private final Map<String, Command> commandMap = new HashMap<>();
     private final Set<Command> commands = new HashSet<>();
 
+    private volatile Graph cachedGraph;
+
     private CommandCallback unknownCommandCallback;
 
     public CommandManager() {
@@ -59,6 +62,7 @@ public final class CommandManager {
         for (String name : command.getNames()) {
             commandMap.put(name, command);
         }
+        this.cachedGraph = null;
     }
 
     /**
@@ -72,6 +76,7 @@ public final class CommandManager {
         for (String name : command.getNames()) {
             commandMap.remove(name);
         }
+        this.cachedGraph = null;
     }
 
     /**
@@ -221,9 +226,40 @@ public final class CommandManager {
         return parser.parse(sender, getGraph(), input);
     }
 
+    /**
+     * Parses the command based on the registered commands, in order to compute its suggestion.
+     * <p>
+     * Unlike {@link #parseCommand(CommandSender, String)}, the parser may resume from the sender's previous input.
+     *
+     * @param input commands string without prefix
+     * @return the parsing result
+     */
+    public CommandParser.Result parseSuggestion(@NotNull CommandSender sender, String input) {
+        return parser.parseSuggestion(sender, getGraph(), input);
+    }
+
+    /**
+     * Invalidates the cached command graph, to be called after modifying an already registered command
+     * (e.g. adding a syntax or a subcommand).
+     * <p>
+     * Only relevant when the compiled parser is enabled with {@code minestom.command.compiled-parser},
+     * the graph is otherwise rebuilt for every parse.
+     */
+    public void invalidateGraph() {
+        this.cachedGraph = null;
+    }
+
     private Graph getGraph() {
-        //todo cache
-        return Graph.merge(commands);
+        if (!COMPILED_PARSER) return Graph.merge(commands);
+        Graph graph = this.cachedGraph;
+        if (graph == null) {
+            // Compiled graphs are cached by identity
+            synchronized (this) {
+                graph = this.cachedGraph;
+                if (graph == null) this.cachedGraph = graph = Graph.merge(commands);
+            }
+        }
+        return graph;
     }
 
     private static CommandResult resultConverter(ExecutableCommand executable,
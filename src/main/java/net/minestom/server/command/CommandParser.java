@@ -16,6 +16,17 @@ public interface CommandParser {
         return CommandParserImpl.PARSER;
     }
 
+    /**
+     * Gets a parser compiling each graph into a literal-first trie on first use.
+     * <p>
+     * Graphs are cached by identity, the same graph instance should be reused for the compilation to pay off.
+     *
+     * @return the compiled parser
+     */
+    static @NotNull CommandParser compiled() {
+        return CompiledCommandParser.PARSER;
+    }
+
     /**
      * Parses the command by following the graph
      *
@@ -26,6 +37,20 @@ public interface CommandParser {
     @Contract("_, _ -> new")
     @NotNull Result parse(@NotNull CommandSender sender, @NotNull Graph graph, @NotNull String input);
 
+    /**
+     * Parses the command for the purpose of computing suggestions.
+     * <p>
+     * Implementations may reuse the sender's previous parse when the input only changed after
+     * an already parsed word, as it is the case when typing.
+     *
+     * @param graph structure to use for parsing
+     * @param input command string without prefix
+     * @return the parsed command, whose suggestion can be computed
+     */
+    default @NotNull Result parseSuggestion(@NotNull CommandSender sender, @NotNull Graph graph, @NotNull String input) {
+        return parse(sender, graph, input);
+    }
+
     sealed interface Result {
         @NotNull ExecutableCommand executable();
 
@@ -86,17 +86,25 @@ final class CommandParserImpl implements CommandParser {
             chain.append(result);
             if (result.argumentResult instanceof ArgumentResult.SyntaxError<?> e) {
                 // Syntax error stop at this arg
-                final ArgumentCallback argumentCallback = parent.argument().getCallback();
-                if (argumentCallback == null && chain.defaultExecutor != null) {
-                    return ValidCommand.defaultExecutor(input, chain);
-                } else {
-                    return new InvalidCommand(input, chain.mergedConditions(),
-                            argumentCallback, e, chain.collectArguments(), chain.mergedGlobalExecutors(),
-                            chain.extractSuggestionCallback(), chain.getArgs());
-                }
+                return syntaxError(input, chain, parent, e);
             }
             parent = result.node;
         }
+        return complete(sender, input, chain, parent, reader.hasRemaining());
+    }
+
+    static Result syntaxError(String input, Chain chain, Node parent, ArgumentResult.SyntaxError<?> error) {
+        final ArgumentCallback argumentCallback = parent.argument().getCallback();
+        if (argumentCallback == null && chain.defaultExecutor != null) {
+            return ValidCommand.defaultExecutor(input, chain);
+        } else {
+            return new InvalidCommand(input, chain.mergedConditions(),
+                    argumentCallback, error, chain.collectArguments(), chain.mergedGlobalExecutors(),
+                    chain.extractSuggestionCallback(), chain.getArgs());
+        }
+    }
+
+    static Result complete(CommandSender sender, String input, Chain chain, Node parent, boolean trailingData) {
         // Check children for arguments with default values
         do {
             Node tmp = parent;
@@ -126,7 +134,7 @@ final class CommandParserImpl implements CommandParser {
                 return InvalidCommand.invalid(input, chain);
             }
         }
-        if (reader.hasRemaining()) {
+        if (trailingData) {
             // Command had trailing data
             if (chain.defaultExecutor != null) {
                 return ValidCommand.defaultExecutor(input, chain);
@@ -171,7 +179,7 @@ final class CommandParserImpl implements CommandParser {
     }
 
     record UnknownCommandResult() implements Result.UnknownCommand {
-        private static final Result INSTANCE = new UnknownCommandResult();
+        static final Result INSTANCE = new UnknownCommandResult();
 
         @Override
         public @NotNull ExecutableCommand executable() {
@@ -321,24 +329,48 @@ final class CommandParserImpl implements CommandParser {
         static final ExecutableCommand.Result INVALID_SYNTAX = new ExecutionResultImpl(Type.INVALID_SYNTAX, null);
     }
 
-    private record NodeResult(Node node, ArgumentResult<Object> argumentResult, SuggestionCallback callback) {
+    record NodeResult(Node node, ArgumentResult<Object> argumentResult, SuggestionCallback callback) {
         public String name() {
             return node.argument().getId();
         }
     }
 
     static final class CommandStringReader {
-        private final String input;
+        private String input;
         private int cursor = 0;
 
         CommandStringReader(String input) {
             this.input = input;
         }
 
+        void reset(String input) {
+            this.input = input;
+            this.cursor = 0;
+        }
+
+        String input() {
+            return input;
+        }
+
         boolean hasRemaining() {
             return cursor < input.length();
         }
 
+        /**
+         * Gets the exclusive end index of the word starting at the cursor, without consuming it.
+         */
+        int wordEnd() {
+            final int i = input.indexOf(' ', cursor);
+            return i == -1 ? input.length() : i;
+        }
+
+        /**
+         * Moves the cursor after a word ending at {@code end}, consistent with {@link #readWord()}.
+         */
+        void skipWord(int end) {
+            this.cursor = end + 1;
+        }
+
         String readWord() {
             final String input = this.input;
             final int cursor = this.cursor;
@@ -372,7 +404,7 @@ final class CommandParserImpl implements CommandParser {
 
     // ARGUMENT
 
-    private static <T> ArgumentResult<T> parse(@NotNull CommandSender sender, Argument<T> argument, CommandStringReader reader) {
+    static <T> ArgumentResult<T> parse(@NotNull CommandSender sender, Argument<T> argument, CommandStringReader reader) {
         // Handle specific type without loop
         try {
             // Single word argument
@@ -404,7 +436,7 @@ final class CommandParserImpl implements CommandParser {
         return new ArgumentResult.IncompatibleType<>();
     }
 
-    private sealed interface ArgumentResult<R> {
+    sealed interface ArgumentResult<R> {
         record Success<T>(T value, String input)
                 implements ArgumentResult<T> {
         }
@@ -0,0 +1,342 @@
+package net.minestom.server.command;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.minestom.server.command.CommandParserImpl.ArgumentResult;
+import net.minestom.server.command.CommandParserImpl.Chain;
+import net.minestom.server.command.CommandParserImpl.CommandStringReader;
+import net.minestom.server.command.CommandParserImpl.NodeResult;
+import net.minestom.server.command.Graph.Node;
+import net.minestom.server.command.builder.arguments.Argument;
+import net.minestom.server.command.builder.arguments.ArgumentLiteral;
+import net.minestom.server.command.builder.arguments.ArgumentWord;
+import net.minestom.server.command.builder.suggestion.SuggestionCallback;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link CommandParser} compiling each {@link Graph} once into a literal-first trie.
+ * <p>
+ * Literals (and restricted words) are resolved through a hash table over the input characters,
+ * meaning that unknown commands and literal-only paths do not allocate nor throw.
+ * Other arguments are parsed exactly like {@link CommandParserImpl}, in the graph order.
+ */
+final class CompiledCommandParser implements CommandParser {
+    static final CompiledCommandParser PARSER = new CompiledCommandParser();
+
+    private static final ThreadLocal<ReaderHolder> READER = ThreadLocal.withInitial(ReaderHolder::new);
+
+    private final Cache<Graph, CompiledGraph> compiledGraphs = Caffeine.newBuilder().weakKeys().build();
+
+    @Override
+    public @NotNull Result parse(@NotNull CommandSender sender, @NotNull Graph graph, @NotNull String input) {
+        return compile(graph).parse(sender, input, false);
+    }
+
+    @Override
+    public @NotNull Result parseSuggestion(@NotNull CommandSender sender, @NotNull Graph graph, @NotNull String input) {
+        return compile(graph).parse(sender, input, true);
+    }
+
+    CompiledGraph compile(Graph graph) {
+        return compiledGraphs.get(graph, CompiledGraph::new);
+    }
+
+    static final class CompiledGraph {
+        private final CompiledNode root;
+        // Last suggestion parse of each sender, used to resume from the last unchanged word
+        private final Cache<CommandSender, Trace> traces = Caffeine.newBuilder().weakKeys().build();
+
+        CompiledGraph(Graph graph) {
+            this.root = CompiledNode.compile(graph.root());
+        }
+
+        Result parse(CommandSender sender, String input, boolean suggestion) {
+            final ReaderHolder holder = READER.get();
+            // Argument parsers could re-enter the command parser, do not share the reader in this case
+            final boolean reuse = !holder.inUse;
+            final CommandStringReader reader = reuse ? holder.reader : new CommandStringReader(input);
+            if (reuse) {
+                holder.inUse = true;
+                reader.reset(input);
+            }
+            try {
+                return parse(sender, input, reader, suggestion);
+            } finally {
+                if (reuse) {
+                    holder.inUse = false;
+                    reader.reset("");
+                }
+            }
+        }
+
+        private Result parse(CommandSender sender, String input, CommandStringReader reader, boolean suggestion) {
+            Chain chain = null;
+            CompiledNode parent = root;
+            TraceBuilder traceBuilder = null;
+            if (suggestion) {
+                traceBuilder = new TraceBuilder();
+                final Trace trace = traces.getIfPresent(sender);
+                if (trace != null) {
+                    final int resumed = trace.resume(input, traceBuilder);
+                    if (resumed > 0) {
+                        chain = new Chain();
+                        for (int i = 0; i < resumed; i++) chain.append(trace.results[i]);
+                        parent = trace.nodes[resumed - 1];
+                        reader.skipWord(trace.cursors[resumed - 1] - 1);
+                    }
+                }
+            }
+            // Read from input
+            boolean checkpoint = suggestion;
+            NodeResult result;
+            while ((result = parent.parseChild(sender, reader)) != null) {
+                if (chain == null) chain = new Chain();
+                chain.append(result);
+                if (result.argumentResult() instanceof ArgumentResult.SyntaxError<?> e) {
+                    // Syntax error stop at this arg
+                    if (traceBuilder != null) traces.put(sender, traceBuilder.build(input));
+                    return CommandParserImpl.syntaxError(input, chain, parent.node, e);
+                }
+                final CompiledNode child = parent.child(result.node());
+                // Only single word paths can be resumed, greedy arguments may consume differently with more input
+                checkpoint &= parent.singleWord && reader.cursor() <= input.length();
+                if (checkpoint) traceBuilder.add(child, result, reader.cursor());
+                parent = child;
+            }
+            if (traceBuilder != null) traces.put(sender, traceBuilder.build(input));
+            if (chain == null) {
+                // Fast path, nothing matched
+                if (parent.hasDefaultChild) chain = new Chain();
+                else return CommandParserImpl.UnknownCommandResult.INSTANCE;
+            }
+            return CommandParserImpl.complete(sender, input, chain, parent.node, reader.hasRemaining());
+        }
+    }
+
+    private static final class CompiledNode {
+        private final Node node;
+        private final Argument<?> argument;
+        private final Kind kind;
+        private final SuggestionCallback suggestionCallback;
+        private CompiledNode[] children;
+        private LiteralTable literals;
+        private boolean singleWord;
+        private boolean hasDefaultChild;
+        private SuggestionCallback fallbackCallback;
+
+        private CompiledNode(Node node) {
+            this.node = node;
+            this.argument = node.argument();
+            this.kind = Kind.of(argument);
+            this.suggestionCallback = argument.getSuggestionCallback();
+        }
+
+        static CompiledNode compile(Node node) {
+            final CompiledNode compiled = new CompiledNode(node);
+            final List<Node> next = node.next();
+            final CompiledNode[] children = new CompiledNode[next.size()];
+            final LiteralTable.Builder literals = new LiteralTable.Builder();
+            boolean singleWord = true;
+            boolean hasDefaultChild = false;
+            SuggestionCallback fallbackCallback = null;
+            for (int i = 0; i < children.length; i++) {
+                final CompiledNode child = compile(next.get(i));
+                children[i] = child;
+                final Argument<?> argument = child.argument;
+                if (child.kind == Kind.LITERAL) {
+                    if (argument instanceof ArgumentWord word) {
+                        for (String restriction : word.getRestrictions()) literals.add(restriction, i);
+                    } else {
+                        literals.add(argument.getId(), i);
+                    }
+                }
+                singleWord &= !argument.allowSpace();
+                hasDefaultChild |= argument.getDefaultValue() != null;
+                if (fallbackCallback == null) fallbackCallback = child.suggestionCallback;
+            }
+            compiled.children = children;
+            compiled.literals = literals.build();
+            compiled.singleWord = singleWord;
+            compiled.hasDefaultChild = hasDefaultChild;
+            compiled.fallbackCallback = fallbackCallback;
+            return compiled;
+        }
+
+        CompiledNode child(Node node) {
+            for (CompiledNode child : children) {
+                if (child.node == node) return child;
+            }
+            // Suggestion fallback, stays on this node
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        NodeResult parseChild(CommandSender sender, CommandStringReader reader) {
+            if (!reader.hasRemaining()) return null;
+            final CompiledNode[] children = this.children;
+            final int start = reader.cursor();
+            final int wordEnd = reader.wordEnd();
+            final int literalSlot = literals.find(reader.input(), start, wordEnd);
+            final int literalIndex = literalSlot != -1 ? literals.indexes[literalSlot] : -1;
+            for (int i = 0; i < children.length; i++) {
+                final CompiledNode child = children[i];
+                if (child.kind == Kind.LITERAL) {
+                    if (i != literalIndex) continue;
+                    final String literal = literals.keys[literalSlot];
+                    reader.skipWord(wordEnd);
+                    return new NodeResult(child.node, new ArgumentResult.Success<>(literal, literal), child.suggestionCallback);
+                }
+                final ArgumentResult<?> parse = CommandParserImpl.parse(sender, child.argument, reader);
+                if (parse instanceof ArgumentResult.Success<?> || parse instanceof ArgumentResult.SyntaxError<?>) {
+                    return new NodeResult(child.node, (ArgumentResult<Object>) parse, child.suggestionCallback);
+                }
+                // Reset cursor & try next
+                reader.cursor(start);
+            }
+            if (fallbackCallback != null) {
+                return new NodeResult(node,
+                        new ArgumentResult.SyntaxError<>("None of the arguments were compatible, but a suggestion callback was found.", "", -1),
+                        fallbackCallback);
+            }
+            return null;
+        }
+    }
+
+    private enum Kind {
+        LITERAL, ARGUMENT;
+
+        static Kind of(Argument<?> argument) {
+            // Exact class checks, subclasses may override parsing
+            if (argument.getClass() == ArgumentLiteral.class) return LITERAL;
+            if (argument.getClass() == ArgumentWord.class && ((ArgumentWord) argument).hasRestrictions()) {
+                for (String restriction : ((ArgumentWord) argument).getRestrictions()) {
+                    if (restriction.indexOf(' ') != -1) return ARGUMENT;
+                }
+                return LITERAL;
+            }
+            return ARGUMENT;
+        }
+    }
+
+    /**
+     * Open-addressing table of literals, hashed directly from the input characters to avoid substring allocation.
+     */
+    static final class LiteralTable {
+        private static final LiteralTable EMPTY = new LiteralTable(new String[0], new int[0]);
+
+        private final String[] keys;
+        private final int[] indexes;
+        private final int mask;
+
+        private LiteralTable(String[] keys, int[] indexes) {
+            this.keys = keys;
+            this.indexes = indexes;
+            this.mask = keys.length - 1;
+        }
+
+        /**
+         * Finds the slot of the literal equal to {@code input[start, end)}.
+         *
+         * @return the slot, -1 if not found
+         */
+        int find(String input, int start, int end) {
+            if (keys.length == 0) return -1;
+            int hash = 0;
+            for (int i = start; i < end; i++) hash = 31 * hash + input.charAt(i);
+            final int length = end - start;
+            for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+                final String key = keys[slot];
+                if (key == null) return -1;
+                if (key.length() == length && key.hashCode() == hash && input.regionMatches(start, key, 0, length)) {
+                    return slot;
+                }
+            }
+        }
+
+        private static int mix(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+        static final class Builder {
+            private String[] keys = new String[0];
+            private int[] indexes = new int[0];
+
+            void add(String key, int index) {
+                for (String existing : keys) {
+                    // First child has the priority, like in the graph order
+                    if (existing.equals(key)) return;
+                }
+                this.keys = Arrays.copyOf(keys, keys.length + 1);
+                this.indexes = Arrays.copyOf(indexes, indexes.length + 1);
+                this.keys[keys.length - 1] = key;
+                this.indexes[indexes.length - 1] = index;
+            }
+
+            LiteralTable build() {
+                if (keys.length == 0) return EMPTY;
+                // Keep the load factor under 0.5
+                final int capacity = Integer.highestOneBit(keys.length * 4 - 1);
+                final String[] tableKeys = new String[capacity];
+                final int[] tableIndexes = new int[capacity];
+                for (int i = 0; i < keys.length; i++) {
+                    final String key = keys[i];
+                    int slot = mix(key.hashCode()) & (capacity - 1);
+                    while (tableKeys[slot] != null) slot = (slot + 1) & (capacity - 1);
+                    tableKeys[slot] = key;
+                    tableIndexes[slot] = indexes[i];
+                }
+                return new LiteralTable(tableKeys, tableIndexes);
+            }
+        }
+    }
+
+    private record Trace(String input, CompiledNode[] nodes, NodeResult[] results, int[] cursors) {
+        /**
+         * Finds how many nodes can be reused for {@code newInput}, and copies them to {@code builder}.
+         */
+        int resume(String newInput, TraceBuilder builder) {
+            final String input = this.input;
+            final int max = Math.min(input.length(), newInput.length());
+            int common = 0;
+            while (common < max && input.charAt(common) == newInput.charAt(common)) common++;
+            int count = 0;
+            while (count < cursors.length && cursors[count] <= common) {
+                builder.add(nodes[count], results[count], cursors[count]);
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private static final class TraceBuilder {
+        private CompiledNode[] nodes = new CompiledNode[4];
+        private NodeResult[] results = new NodeResult[4];
+        private int[] cursors = new int[4];
+        private int size;
+
+        void add(CompiledNode node, NodeResult result, int cursor) {
+            if (size == cursors.length) {
+                final int length = size * 2;
+                this.nodes = Arrays.copyOf(nodes, length);
+                this.results = Arrays.copyOf(results, length);
+                this.cursors = Arrays.copyOf(cursors, length);
+            }
+            this.nodes[size] = node;
+            this.results[size] = result;
+            this.cursors[size] = cursor;
+            this.size++;
+        }
+
+        Trace build(String input) {
+            return new Trace(input, Arrays.copyOf(nodes, size), Arrays.copyOf(results, size), Arrays.copyOf(cursors, size));
+        }
+    }
+
+    private static final class ReaderHolder {
+        final CommandStringReader reader = new CommandStringReader("");
+        boolean inUse;
+    }
+}
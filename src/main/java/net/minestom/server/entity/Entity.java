@@ -524,6 +524,9 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     public void tick(long time) {
         if (instance == null || isRemoved() || !ChunkUtils.isLoaded(currentChunk))
             return;
+        // Frozen outside the simulation distance
+        if (!(this instanceof Player) && !currentChunk.getInstance().isChunkSimulated(currentChunk.getChunkX(), currentChunk.getChunkZ()))
+            return;
 
         // scheduled tasks
         this.scheduler.processTick();
@@ -415,6 +415,10 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
             }
         }
 
+        // Send the modified slots of the open inventory, shared with the other viewers
+        final Inventory openInventory = this.openInventory;
+        if (openInventory != null) openInventory.flush();
+
         // Tick event
         EventDispatcher.call(new PlayerTickEvent(this));
     }
@@ -0,0 +1,69 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.utils.chunk.ChunkUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Set of the chunks within the simulation distance of at least one player.
+ * <p>
+ * Rebuilt once per tick by the instance and when the distance is changed,
+ * only if a player changed chunk or the distance changed. Read concurrently by the tick threads.
+ */
+final class ActiveChunkTracker {
+    static final int DEFAULT_DISTANCE = Integer.getInteger("minestom.simulation-distance", 0);
+
+    private volatile LongSet active = LongSets.EMPTY_SET;
+    private long[] centers = new long[0];
+    private int distance = -1;
+
+    /**
+     * Updates the active chunks from the player positions.
+     *
+     * @param players  the players around which chunks are simulated
+     * @param distance the simulation distance, in chunks
+     */
+    synchronized void update(Collection<Player> players, int distance) {
+        LongArrayList centers = new LongArrayList(players.size());
+        for (Player player : players) {
+            final Pos position = player.getPosition();
+            centers.add(ChunkUtils.getChunkIndex(position.chunkX(), position.chunkZ()));
+        }
+        centers.unstableSort(null);
+        final long[] array = centers.toLongArray();
+        if (distance == this.distance && Arrays.equals(array, this.centers)) return;
+        this.centers = array;
+        this.distance = distance;
+
+        LongOpenHashSet active = new LongOpenHashSet();
+        long previous = 0;
+        for (int i = 0; i < array.length; i++) {
+            final long center = array[i];
+            if (i > 0 && center == previous) continue;
+            previous = center;
+            final int chunkX = ChunkUtils.getChunkCoordX(center);
+            final int chunkZ = ChunkUtils.getChunkCoordZ(center);
+            for (int x = -distance; x <= distance; x++) {
+                for (int z = -distance; z <= distance; z++) {
+                    active.add(ChunkUtils.getChunkIndex(chunkX + x, chunkZ + z));
+                }
+            }
+        }
+        this.active = active;
+    }
+
+    boolean isActive(int chunkX, int chunkZ) {
+        return active.contains(ChunkUtils.getChunkIndex(chunkX, chunkZ));
+    }
+
+    int size() {
+        return active.size();
+    }
+}
@@ -0,0 +1,98 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnknownNullability;
+
+import java.util.Objects;
+
+/**
+ * Cursor reading the blocks of an instance, caching the last accessed chunk and section.
+ * <p>
+ * Meant for scans accessing close positions (pathfinding, physics), where each read
+ * would otherwise resolve the chunk from the instance.
+ * Not thread-safe, an accessor must be confined to a single thread.
+ */
+@ApiStatus.Experimental
+public final class BlockAccessor implements Block.Getter {
+    /**
+     * State id returned for positions in unloaded chunks.
+     */
+    public static final int UNLOADED = -1;
+
+    private final Instance instance;
+    private final int minY, maxY;
+
+    private Chunk chunk;
+    private int chunkX = Integer.MIN_VALUE, chunkZ = Integer.MIN_VALUE;
+    private Palette palette;
+    private int sectionY = Integer.MIN_VALUE;
+
+    public BlockAccessor(@NotNull Instance instance) {
+        this.instance = instance;
+        this.minY = instance.getDimensionType().getMinY();
+        this.maxY = minY + instance.getDimensionType().getHeight();
+    }
+
+    /**
+     * Gets the block state id at a position, without creating the block.
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @return the block state id, air outside the dimension height, {@link #UNLOADED} if the chunk is not loaded
+     */
+    public int getBlockStateId(int x, int y, int z) {
+        if (y < minY || y >= maxY) return Block.AIR.stateId();
+        final Chunk chunk = chunk(x, z);
+        if (chunk == null) return UNLOADED;
+        synchronized (chunk) {
+            final int sectionY = ChunkUtils.getChunkCoordinate(y);
+            Palette palette = this.palette;
+            if (palette == null || sectionY != this.sectionY) {
+                this.palette = palette = chunk.getSection(sectionY).blockPalette();
+                this.sectionY = sectionY;
+            }
+            return palette.get(ChunkUtils.toSectionRelativeCoordinate(x),
+                    ChunkUtils.toSectionRelativeCoordinate(y),
+                    ChunkUtils.toSectionRelativeCoordinate(z));
+        }
+    }
+
+    /**
+     * Gets the block at a position.
+     * <p>
+     * {@link Condition#TYPE} reads the section palette directly, other conditions are forwarded to the chunk.
+     *
+     * @return the block, null if the chunk is not loaded
+     */
+    @Override
+    public @UnknownNullability Block getBlock(int x, int y, int z, @NotNull Condition condition) {
+        if (condition == Condition.TYPE) {
+            final int stateId = getBlockStateId(x, y, z);
+            if (stateId == UNLOADED) return null;
+            return Objects.requireNonNullElse(Block.fromStateId((short) stateId), Block.AIR);
+        }
+        final Chunk chunk = chunk(x, z);
+        if (chunk == null) return null;
+        synchronized (chunk) {
+            return chunk.getBlock(x, y, z, condition);
+        }
+    }
+
+    private Chunk chunk(int x, int z) {
+        final int chunkX = ChunkUtils.getChunkCoordinate(x);
+        final int chunkZ = ChunkUtils.getChunkCoordinate(z);
+        Chunk chunk = this.chunk;
+        if (chunk == null || chunkX != this.chunkX || chunkZ != this.chunkZ || !chunk.isLoaded()) {
+            this.chunk = chunk = instance.getChunk(chunkX, chunkZ);
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.palette = null;
+        }
+        return chunk;
+    }
+}
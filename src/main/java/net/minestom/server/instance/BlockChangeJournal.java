@@ -0,0 +1,116 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.utils.block.BlockUtils;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the block changes of an instance to send them to the chunk viewers at once.
+ * <p>
+ * Changes are sent per section as {@link MultiBlockChangePacket}, a single change in a section as {@link BlockChangePacket}.
+ * Chunks with more than {@code minestom.block-update.chunk-resend-threshold} changes are resent entirely.
+ */
+@ApiStatus.Internal
+public final class BlockChangeJournal {
+    private static final int CHUNK_RESEND_THRESHOLD = Integer.getInteger("minestom.block-update.chunk-resend-threshold", 4096);
+
+    private Map<Chunk, Int2ObjectMap<Block>> changes = new IdentityHashMap<>();
+
+    BlockChangeJournal() {
+    }
+
+    /**
+     * Records a block change, replacing the previous change at the same position.
+     *
+     * @param chunk the chunk of the block
+     * @param x     the block X
+     * @param y     the block Y
+     * @param z     the block Z
+     * @param block the new block
+     */
+    synchronized void record(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block) {
+        this.changes.computeIfAbsent(chunk, c -> new Int2ObjectOpenHashMap<>())
+                .put(ChunkUtils.getBlockIndex(x, y, z), block);
+    }
+
+    /**
+     * Sends the recorded changes of every loaded chunk and clears the journal.
+     */
+    void flush() {
+        final Map<Chunk, Int2ObjectMap<Block>> changes;
+        synchronized (this) {
+            changes = this.changes;
+            if (changes.isEmpty()) return;
+            this.changes = new IdentityHashMap<>();
+        }
+        for (Map.Entry<Chunk, Int2ObjectMap<Block>> entry : changes.entrySet()) {
+            final Chunk chunk = entry.getKey();
+            if (chunk.isLoaded()) sendChanges(chunk, entry.getValue());
+        }
+    }
+
+    /**
+     * Sends block changes to the viewers of a chunk.
+     *
+     * @param chunk   the chunk containing the changes
+     * @param changes the changed blocks, indexed using {@link ChunkUtils#getBlockIndex(int, int, int)}
+     */
+    public static void sendChanges(@NotNull Chunk chunk, @NotNull Int2ObjectMap<Block> changes) {
+        if (changes.isEmpty() || chunk.getViewers().isEmpty()) return;
+        if (changes.size() >= CHUNK_RESEND_THRESHOLD) {
+            // Cheaper to send the whole chunk
+            chunk.sendChunk();
+            return;
+        }
+        final int chunkX = chunk.getChunkX(), chunkZ = chunk.getChunkZ();
+        Int2ObjectMap<LongArrayList> sections = new Int2ObjectOpenHashMap<>();
+        List<ServerPacket> blockEntities = null;
+        for (Int2ObjectMap.Entry<Block> entry : changes.int2ObjectEntrySet()) {
+            final int index = entry.getIntKey();
+            final Block block = entry.getValue();
+            final int x = ChunkUtils.blockIndexToChunkPositionX(index);
+            final int y = ChunkUtils.blockIndexToChunkPositionY(index);
+            final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
+            sections.computeIfAbsent(ChunkUtils.getChunkCoordinate(y), s -> new LongArrayList())
+                    .add((long) block.stateId() << 12 | (x << 8 | z << 4 | (y & 0xF)));
+            final var registry = block.registry();
+            if (registry.isBlockEntity()) {
+                if (blockEntities == null) blockEntities = new ArrayList<>();
+                final Vec blockPosition = new Vec(chunkX * Chunk.CHUNK_SIZE_X + x, y, chunkZ * Chunk.CHUNK_SIZE_Z + z);
+                blockEntities.add(new BlockEntityDataPacket(blockPosition, registry.blockEntityId(),
+                        BlockUtils.extractClientNbt(block)));
+            }
+        }
+        for (Int2ObjectMap.Entry<LongArrayList> entry : sections.int2ObjectEntrySet()) {
+            final int section = entry.getIntKey();
+            final LongArrayList blocks = entry.getValue();
+            if (blocks.size() == 1) {
+                final long value = blocks.getLong(0);
+                final Vec blockPosition = new Vec(chunkX * Chunk.CHUNK_SIZE_X + (int) (value >> 8 & 0xF),
+                        section * Chunk.CHUNK_SECTION_SIZE + (int) (value & 0xF),
+                        chunkZ * Chunk.CHUNK_SIZE_Z + (int) (value >> 4 & 0xF));
+                chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, (int) (value >>> 12)));
+            } else {
+                chunk.sendPacketToViewers(new MultiBlockChangePacket(chunkX, section, chunkZ, blocks.toLongArray()));
+            }
+        }
+        if (blockEntities != null) {
+            for (ServerPacket packet : blockEntities) chunk.sendPacketToViewers(packet);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue;
+
+/**
+ * Schedules the block handler ticks of a chunk.
+ * <p>
+ * Blocks are grouped by due tick, only the blocks due for the current tick are visited.
+ * Rescheduling or cancelling a block leaves its previous entry in place, skipped once due.
+ */
+final class BlockTickScheduler {
+    private final LongHeapPriorityQueue dueTicks = new LongHeapPriorityQueue();
+    private final Long2ObjectOpenHashMap<IntArrayList> buckets = new Long2ObjectOpenHashMap<>();
+    // block index -> due tick of the block, 0 if not scheduled
+    private final Int2LongOpenHashMap scheduled = new Int2LongOpenHashMap();
+    private long tick;
+
+    /**
+     * Schedules the next tick of a block, replacing its previously scheduled tick.
+     *
+     * @param index the block index, see {@link net.minestom.server.utils.chunk.ChunkUtils#getBlockIndex(int, int, int)}
+     * @param delay the number of ticks before the block tick, at least 1
+     */
+    synchronized void schedule(int index, int delay) {
+        final long due = tick + Math.max(1, delay);
+        if (scheduled.put(index, due) == due) return;
+        IntArrayList bucket = buckets.get(due);
+        if (bucket == null) {
+            bucket = new IntArrayList();
+            this.buckets.put(due, bucket);
+            this.dueTicks.enqueue(due);
+        }
+        bucket.add(index);
+    }
+
+    synchronized void cancel(int index) {
+        this.scheduled.remove(index);
+    }
+
+    synchronized boolean isScheduled(int index) {
+        return scheduled.containsKey(index);
+    }
+
+    synchronized boolean isEmpty() {
+        return scheduled.isEmpty();
+    }
+
+    synchronized void clear() {
+        this.scheduled.clear();
+        this.buckets.clear();
+        this.dueTicks.clear();
+    }
+
+    /**
+     * Advances by one tick and gets the blocks due, which are no longer scheduled.
+     *
+     * @return the indexes of the blocks to tick
+     */
+    synchronized IntList poll() {
+        if (scheduled.isEmpty()) {
+            // Only outdated entries are left
+            if (!buckets.isEmpty()) clear();
+            return IntLists.emptyList();
+        }
+        final long tick = ++this.tick;
+        IntList result = IntLists.emptyList();
+        while (!dueTicks.isEmpty() && dueTicks.firstLong() <= tick) {
+            final long due = dueTicks.dequeueLong();
+            final IntArrayList bucket = buckets.remove(due);
+            for (int i = 0; i < bucket.size(); i++) {
+                final int index = bucket.getInt(i);
+                if (scheduled.get(index) != due) continue; // Rescheduled or cancelled
+                this.scheduled.remove(index);
+                if (result.isEmpty()) result = new IntArrayList();
+                result.add(index);
+            }
+        }
+        return result;
+    }
+}
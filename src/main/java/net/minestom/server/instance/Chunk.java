@@ -1,5 +1,7 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minestom.server.Tickable;
 import net.minestom.server.Viewable;
 import net.minestom.server.coordinate.Point;
@@ -7,6 +9,7 @@ import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Player;
 import net.minestom.server.entity.pathfinding.PFColumnarSpace;
 import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.network.packet.server.play.ChunkDataPacket;
 import net.minestom.server.snapshot.Snapshotable;
 import net.minestom.server.tag.TagHandler;
@@ -14,7 +17,9 @@ import net.minestom.server.tag.Taggable;
 import net.minestom.server.utils.chunk.ChunkSupplier;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import net.minestom.server.world.biomes.Biome;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Set;
@@ -54,6 +59,9 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
     // Path finding
     protected PFColumnarSpace columnarSpace;
 
+    // Next tick of the tickable blocks and of the blocks scheduled explicitly
+    private final BlockTickScheduler tickScheduler = new BlockTickScheduler();
+
     // Data
     private final TagHandler tagHandler = TagHandler.newHandler();
 
@@ -87,6 +95,94 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
     @Override
     public abstract void setBlock(int x, int y, int z, @NotNull Block block);
 
+    /**
+     * Sets multiple blocks at once.
+     * <p>
+     * Implementations may write each section only once, which is faster than {@link #setBlock(int, int, int, Block)}
+     * for large changes.
+     *
+     * @param blocks   the blocks to set, indexed using {@link ChunkUtils#getBlockIndex(int, int, int)}
+     * @param previous receives the replaced blocks (in chunk coordinates), null to ignore
+     */
+    @ApiStatus.Experimental
+    public void setBlocks(@NotNull Int2ObjectMap<Block> blocks, @Nullable Block.Setter previous) {
+        for (Int2ObjectMap.Entry<Block> entry : blocks.int2ObjectEntrySet()) {
+            final int index = entry.getIntKey();
+            final int x = ChunkUtils.blockIndexToChunkPositionX(index);
+            final int y = ChunkUtils.blockIndexToChunkPositionY(index);
+            final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
+            if (previous != null) previous.setBlock(x, y, z, getBlock(x, y, z));
+            setBlock(x, y, z, entry.getValue());
+        }
+    }
+
+    /**
+     * Schedules a tick of the block handler at a position, replacing its previously scheduled tick.
+     * <p>
+     * The schedule is cancelled if the block is replaced by a block without a tickable handler.
+     * Tickable handlers resume their {@link net.minestom.server.instance.block.BlockHandler#getTickInterval() interval}
+     * after the scheduled tick.
+     *
+     * @param x     the block X
+     * @param y     the block Y
+     * @param z     the block Z
+     * @param delay the number of ticks before the block tick, at least 1
+     */
+    @ApiStatus.Experimental
+    public void scheduleBlockTick(int x, int y, int z, int delay) {
+        this.tickScheduler.schedule(ChunkUtils.getBlockIndex(x, y, z), delay);
+    }
+
+    /**
+     * Updates the scheduled tick of a block being set, to be called by implementations when a block changes.
+     * <p>
+     * Tickable handlers are scheduled at their interval, other blocks lose their scheduled tick.
+     *
+     * @param index the block index, see {@link ChunkUtils#getBlockIndex(int, int, int)}
+     * @param block the new block
+     */
+    protected void updateBlockTick(int index, @NotNull Block block) {
+        final BlockHandler handler = block.handler();
+        if (handler != null && handler.isTickable()) {
+            this.tickScheduler.schedule(index, handler.getTickInterval());
+        } else {
+            this.tickScheduler.cancel(index);
+        }
+    }
+
+    /**
+     * Ticks the handlers of the blocks due for this tick, to be called by implementations from {@link #tick(long)}.
+     * <p>
+     * Does nothing if the chunk is not simulated, see {@link Instance#isChunkSimulated(int, int)}.
+     */
+    protected void tickScheduledBlocks() {
+        if (tickScheduler.isEmpty() || !instance.isChunkSimulated(chunkX, chunkZ)) return;
+        final IntList due = tickScheduler.poll();
+        for (int i = 0; i < due.size(); i++) {
+            final int index = due.getInt(i);
+            final Point blockPosition = ChunkUtils.getBlockPosition(index, chunkX, chunkZ);
+            final Block block;
+            synchronized (this) {
+                block = getBlock(blockPosition, Condition.CACHED);
+            }
+            if (block == null) continue;
+            final BlockHandler handler = block.handler();
+            if (handler == null) continue;
+            handler.tick(new BlockHandler.Tick(block, instance, blockPosition));
+            // Periodic tick, unless the handler scheduled its next tick itself
+            if (handler.isTickable() && !tickScheduler.isScheduled(index)) {
+                this.tickScheduler.schedule(index, handler.getTickInterval());
+            }
+        }
+    }
+
+    /**
+     * Cancels all the scheduled block ticks, to be called by implementations when the chunk is reset.
+     */
+    protected void clearBlockTicks() {
+        this.tickScheduler.clear();
+    }
+
     public abstract @NotNull List<Section> getSections();
 
     public abstract @NotNull Section getSection(int section);
@@ -0,0 +1,147 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the last tick each chunk of an instance was viewed, and unloads them according to a {@link ChunkRetentionPolicy}.
+ * <p>
+ * Chunks are scanned once per second rather than every tick.
+ */
+final class ChunkRetention {
+    static final int SCAN_INTERVAL = 20;
+
+    private final InstanceContainer instance;
+    // chunk index -> last tick the chunk had a viewer
+    private final Long2LongOpenHashMap lastViewed = new Long2LongOpenHashMap();
+    // chunk index -> load time in milliseconds, chunks changed since are saved
+    private final Long2LongOpenHashMap loadTime = new Long2LongOpenHashMap();
+    // chunks being saved before their unload
+    private final LongSet saving = new LongOpenHashSet();
+
+    private final LongAdder idleUnloads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder savedChunks = new LongAdder();
+
+    ChunkRetention(@NotNull InstanceContainer instance) {
+        this.instance = instance;
+        this.lastViewed.defaultReturnValue(-1);
+        this.loadTime.defaultReturnValue(-1);
+    }
+
+    synchronized void onLoad(@NotNull Chunk chunk, long tick) {
+        final long index = ChunkUtils.getChunkIndex(chunk);
+        this.lastViewed.put(index, tick);
+        this.loadTime.put(index, System.currentTimeMillis());
+    }
+
+    /**
+     * Updates the view ticks and unloads the chunks according to the policy.
+     *
+     * @param policy the retention policy
+     * @param tick   the current tick of the instance
+     */
+    void tick(@NotNull ChunkRetentionPolicy policy, long tick) {
+        if (tick % SCAN_INTERVAL != 0) return;
+        List<Chunk> expired = new ArrayList<>();
+        List<Chunk> idle = new ArrayList<>();
+        int loaded = 0;
+        synchronized (this) {
+            for (Chunk chunk : instance.getChunks()) {
+                if (!chunk.isLoaded()) continue;
+                final long index = ChunkUtils.getChunkIndex(chunk);
+                if (saving.contains(index)) continue;
+                loaded++;
+                if (!chunk.getViewers().isEmpty()) {
+                    this.lastViewed.put(index, tick);
+                    continue;
+                }
+                long last = lastViewed.get(index);
+                if (last == -1) {
+                    // Loaded before the policy was set
+                    this.lastViewed.put(index, tick);
+                    last = tick;
+                }
+                if (tick - last >= policy.idleTicks()) {
+                    expired.add(chunk);
+                } else {
+                    idle.add(chunk);
+                }
+            }
+        }
+        for (Chunk chunk : expired) {
+            unload(chunk, policy);
+            this.idleUnloads.increment();
+        }
+        loaded -= expired.size();
+        final int maxChunks = policy.maxChunks();
+        if (maxChunks > 0 && loaded > maxChunks && !idle.isEmpty()) {
+            // Least recently viewed first
+            synchronized (this) {
+                idle.sort(Comparator.comparingLong(chunk -> lastViewed.get(ChunkUtils.getChunkIndex(chunk))));
+            }
+            final int count = Math.min(loaded - maxChunks, idle.size());
+            for (int i = 0; i < count; i++) {
+                unload(idle.get(i), policy);
+                this.evictions.increment();
+            }
+        }
+    }
+
+    @NotNull ChunkRetentionPolicy.Statistics statistics() {
+        return new ChunkRetentionPolicy.Statistics(instance.getChunks().size(),
+                idleUnloads.sum(), evictions.sum(), savedChunks.sum());
+    }
+
+    private void unload(Chunk chunk, ChunkRetentionPolicy policy) {
+        final long index = ChunkUtils.getChunkIndex(chunk);
+        final long loadTime;
+        synchronized (this) {
+            loadTime = this.loadTime.get(index);
+        }
+        // Chunks loaded before the policy was set are considered modified
+        if (policy.saveChunks() && (loadTime == -1 || chunk.getLastChangeTime() >= loadTime)) {
+            synchronized (this) {
+                this.saving.add(index);
+            }
+            final long changeTime = chunk.getLastChangeTime();
+            this.instance.saveChunkToStorage(chunk).whenComplete((unused, throwable) -> {
+                if (throwable != null) MinecraftServer.getExceptionManager().handleException(throwable);
+                // Unloaded from the instance thread once the data is stored
+                this.instance.scheduleNextTick(inst -> unloadSaved(chunk, changeTime, throwable == null));
+            });
+            this.savedChunks.increment();
+            return;
+        }
+        this.instance.unloadChunk(chunk);
+    }
+
+    private void unloadSaved(Chunk chunk, long changeTime, boolean saved) {
+        synchronized (this) {
+            this.saving.remove(ChunkUtils.getChunkIndex(chunk));
+        }
+        // Kept if the save failed, or if the chunk was viewed or modified in the meantime
+        if (!saved || !chunk.isLoaded() || !chunk.getViewers().isEmpty() ||
+                chunk.getLastChangeTime() != changeTime) return;
+        this.instance.unloadChunk(chunk);
+    }
+
+    synchronized void onUnload(@NotNull Chunk chunk) {
+        final long index = ChunkUtils.getChunkIndex(chunk);
+        this.lastViewed.remove(index);
+        this.loadTime.remove(index);
+    }
+
+    synchronized int tracked() {
+        return lastViewed.size();
+    }
+}
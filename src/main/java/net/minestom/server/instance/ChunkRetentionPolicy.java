@@ -0,0 +1,33 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.utils.validate.Check;
+
+/**
+ * Defines when an {@link InstanceContainer} unloads the chunks nobody is viewing.
+ * <p>
+ * Chunks without viewers are unloaded once idle for {@code idleTicks}.
+ * When more than {@code maxChunks} chunks are loaded, the least recently viewed chunks without viewers
+ * are unloaded first, regardless of their idle time.
+ *
+ * @param idleTicks  the number of ticks a chunk without viewers stays loaded
+ * @param maxChunks  the number of loaded chunks above which idle chunks are evicted, 0 for no limit
+ * @param saveChunks true to save modified chunks with the {@link IChunkLoader} before unloading them
+ * @see InstanceContainer#setChunkRetentionPolicy(ChunkRetentionPolicy)
+ */
+public record ChunkRetentionPolicy(int idleTicks, int maxChunks, boolean saveChunks) {
+    public ChunkRetentionPolicy {
+        Check.argCondition(idleTicks < 0, "The idle ticks cannot be negative");
+        Check.argCondition(maxChunks < 0, "The maximum number of chunks cannot be negative");
+    }
+
+    /**
+     * Chunk retention metrics of an instance.
+     *
+     * @param loadedChunks  the number of chunks currently loaded
+     * @param idleUnloads   the number of chunks unloaded after being idle
+     * @param evictions     the number of chunks unloaded to stay under the chunk limit
+     * @param savedChunks   the number of modified chunks saved before being unloaded
+     */
+    public record Statistics(int loadedChunks, long idleUnloads, long evictions, long savedChunks) {
+    }
+}
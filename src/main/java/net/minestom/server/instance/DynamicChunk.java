@@ -1,14 +1,15 @@
 package net.minestom.server.instance;
 
 import com.extollit.gaming.ai.path.model.ColumnarOcclusionFieldList;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minestom.server.MinecraftServer;
-import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.entity.pathfinding.PFBlock;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.play.ChunkDataPacket;
@@ -19,7 +20,6 @@ import net.minestom.server.snapshot.ChunkSnapshot;
 import net.minestom.server.snapshot.SnapshotImpl;
 import net.minestom.server.snapshot.SnapshotUpdater;
 import net.minestom.server.utils.ArrayUtils;
-import net.minestom.server.utils.MathUtils;
 import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import net.minestom.server.world.biomes.Biome;
@@ -44,15 +44,33 @@ public class DynamicChunk extends Chunk {
     // Key = ChunkUtils#getBlockIndex
     protected final Int2ObjectOpenHashMap<Block> entries = new Int2ObjectOpenHashMap<>(0);
     protected final Int2ObjectOpenHashMap<Block> tickableMap = new Int2ObjectOpenHashMap<>(0);
+    // Indexed by Heightmap.Type#ordinal
+    private final Heightmap[] heightmaps;
+
+    // Number of changes in a section from which its palette is rewritten at once by #setBlocks
+    private static final int BULK_SECTION_THRESHOLD = Integer.getInteger("minestom.chunk.bulk-section-threshold", 512);
 
     private long lastChange;
     final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
 
+    // Modification counters, used to reuse the data of the previous snapshot
+    private final long[] sectionModifications;
+    private long entriesModifications;
+    // Data captured by the last snapshot, immutable
+    private Section[] snapshotSections;
+    private long[] snapshotSectionModifications;
+    private Int2ObjectOpenHashMap<Block> snapshotEntries;
+    private long snapshotEntriesModifications = -1;
+
     public DynamicChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
         super(instance, chunkX, chunkZ, true);
         var sectionsTemp = new Section[maxSection - minSection];
         Arrays.setAll(sectionsTemp, value -> new Section());
         this.sections = List.of(sectionsTemp);
+        this.sectionModifications = new long[sectionsTemp.length];
+        final Heightmap.Type[] types = Heightmap.Type.values();
+        this.heightmaps = new Heightmap[types.length];
+        for (Heightmap.Type type : types) this.heightmaps[type.ordinal()] = new Heightmap(this, type);
     }
 
     @Override
@@ -70,14 +88,17 @@ public class DynamicChunk extends Chunk {
         Section section = getSectionAt(y);
         section.blockPalette()
                 .set(toSectionRelativeCoordinate(x), toSectionRelativeCoordinate(y), toSectionRelativeCoordinate(z), block.stateId());
+        this.sectionModifications[ChunkUtils.getChunkCoordinate(y) - minSection]++;
+        for (Heightmap heightmap : heightmaps) heightmap.update(x, y, z, block);
 
         final int index = ChunkUtils.getBlockIndex(x, y, z);
         // Handler
         final BlockHandler handler = block.handler();
         if (handler != null || block.hasNbt() || block.registry().isBlockEntity()) {
             this.entries.put(index, block);
-        } else {
-            this.entries.remove(index);
+            this.entriesModifications++;
+        } else if (this.entries.remove(index) != null) {
+            this.entriesModifications++;
         }
         // Block tick
         if (handler != null && handler.isTickable()) {
@@ -85,6 +106,99 @@ public class DynamicChunk extends Chunk {
         } else {
             this.tickableMap.remove(index);
         }
+        updateBlockTick(index, block);
+    }
+
+    @Override
+    public void setBlocks(@NotNull Int2ObjectMap<Block> blocks, @Nullable Block.Setter previous) {
+        assertLock();
+        if (blocks.isEmpty()) return;
+        this.lastChange = System.currentTimeMillis();
+        this.chunkCache.invalidate();
+
+        // Group the changes per section
+        @SuppressWarnings("unchecked") final Int2ObjectMap<Block>[] sectionChanges = new Int2ObjectMap[sections.size()];
+        for (Int2ObjectMap.Entry<Block> entry : blocks.int2ObjectEntrySet()) {
+            final int index = entry.getIntKey();
+            final int sectionIndex = ChunkUtils.getChunkCoordinate(ChunkUtils.blockIndexToChunkPositionY(index)) - minSection;
+            Int2ObjectMap<Block> changes = sectionChanges[sectionIndex];
+            if (changes == null) sectionChanges[sectionIndex] = changes = new Int2ObjectOpenHashMap<>();
+            changes.put(index, entry.getValue());
+        }
+
+        for (int i = 0; i < sectionChanges.length; i++) {
+            final Int2ObjectMap<Block> changes = sectionChanges[i];
+            if (changes == null) continue;
+            final int sectionY = (i + minSection) * CHUNK_SECTION_SIZE;
+            final Palette palette = sections.get(i).blockPalette();
+            if (changes.size() >= BULK_SECTION_THRESHOLD) {
+                // Rewrite the palette once
+                final int[] states = new int[CHUNK_SECTION_SIZE * CHUNK_SECTION_SIZE * CHUNK_SECTION_SIZE];
+                Arrays.fill(states, -1);
+                for (Int2ObjectMap.Entry<Block> entry : changes.int2ObjectEntrySet()) {
+                    final int index = entry.getIntKey();
+                    states[sectionIndex(ChunkUtils.blockIndexToChunkPositionX(index),
+                            ChunkUtils.blockIndexToChunkPositionY(index) - sectionY,
+                            ChunkUtils.blockIndexToChunkPositionZ(index))] = entry.getValue().stateId();
+                }
+                palette.replaceAll((x, y, z, value) -> {
+                    final int state = states[sectionIndex(x, y, z)];
+                    if (state == -1) return value;
+                    if (previous != null) previous.setBlock(x, sectionY + y, z, previousBlock(x, sectionY + y, z, value));
+                    return state;
+                });
+            } else {
+                for (Int2ObjectMap.Entry<Block> entry : changes.int2ObjectEntrySet()) {
+                    final int index = entry.getIntKey();
+                    final int x = ChunkUtils.blockIndexToChunkPositionX(index);
+                    final int y = ChunkUtils.blockIndexToChunkPositionY(index);
+                    final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
+                    if (previous != null) {
+                        previous.setBlock(x, y, z, previousBlock(x, y, z, palette.get(x, y - sectionY, z)));
+                    }
+                    palette.set(x, y - sectionY, z, entry.getValue().stateId());
+                }
+            }
+            this.sectionModifications[i]++;
+        }
+
+        // Heightmaps, handlers, block entities and pathfinder
+        final ColumnarOcclusionFieldList columnarOcclusionFieldList = columnarSpace != null ? columnarSpace.occlusionFields() : null;
+        for (Int2ObjectMap.Entry<Block> entry : blocks.int2ObjectEntrySet()) {
+            final int index = entry.getIntKey();
+            final Block block = entry.getValue();
+            for (Heightmap heightmap : heightmaps) {
+                heightmap.update(ChunkUtils.blockIndexToChunkPositionX(index), ChunkUtils.blockIndexToChunkPositionY(index),
+                        ChunkUtils.blockIndexToChunkPositionZ(index), block);
+            }
+            if (columnarOcclusionFieldList != null) {
+                columnarOcclusionFieldList.onBlockChanged(ChunkUtils.blockIndexToChunkPositionX(index),
+                        ChunkUtils.blockIndexToChunkPositionY(index), ChunkUtils.blockIndexToChunkPositionZ(index),
+                        PFBlock.get(block), 0);
+            }
+            final BlockHandler handler = block.handler();
+            if (handler != null || block.hasNbt() || block.registry().isBlockEntity()) {
+                this.entries.put(index, block);
+                this.entriesModifications++;
+            } else if (this.entries.remove(index) != null) {
+                this.entriesModifications++;
+            }
+            if (handler != null && handler.isTickable()) {
+                this.tickableMap.put(index, block);
+            } else {
+                this.tickableMap.remove(index);
+            }
+            updateBlockTick(index, block);
+        }
+    }
+
+    private Block previousBlock(int x, int y, int z, int stateId) {
+        final Block entry = !entries.isEmpty() ? entries.get(ChunkUtils.getBlockIndex(x, y, z)) : null;
+        return entry != null ? entry : Objects.requireNonNullElse(Block.fromStateId((short) stateId), Block.AIR);
+    }
+
+    private static int sectionIndex(int x, int y, int z) {
+        return y << 8 | z << 4 | x;
     }
 
     @Override
@@ -96,6 +210,7 @@ public class DynamicChunk extends Chunk {
                 toSectionRelativeCoordinate(x) / 4,
                 toSectionRelativeCoordinate(y) / 4,
                 toSectionRelativeCoordinate(z) / 4, biome.id());
+        this.sectionModifications[ChunkUtils.getChunkCoordinate(y) - minSection]++;
     }
 
     @Override
@@ -110,15 +225,7 @@ public class DynamicChunk extends Chunk {
 
     @Override
     public void tick(long time) {
-        if (tickableMap.isEmpty()) return;
-        tickableMap.int2ObjectEntrySet().fastForEach(entry -> {
-            final int index = entry.getIntKey();
-            final Block block = entry.getValue();
-            final BlockHandler handler = block.handler();
-            if (handler == null) return;
-            final Point blockPosition = ChunkUtils.getBlockPosition(index, chunkX, chunkZ);
-            handler.tick(new BlockHandler.Tick(block, instance, blockPosition));
-        });
+        tickScheduledBlocks();
     }
 
     @Override
@@ -180,31 +287,42 @@ public class DynamicChunk extends Chunk {
     public void reset() {
         for (Section section : sections) section.clear();
         this.entries.clear();
+        this.tickableMap.clear();
+        clearBlockTicks();
+        invalidate();
+    }
+
+    /**
+     * Gets a heightmap of this chunk, maintained on each block change.
+     *
+     * @param type the heightmap type
+     * @return the heightmap
+     */
+    public @NotNull Heightmap getHeightmap(@NotNull Heightmap.Type type) {
+        return heightmaps[type.ordinal()];
+    }
+
+    /**
+     * Invalidates the cached chunk packet, snapshot data and heightmaps.
+     * <p>
+     * Must be called after modifying the {@link #getSections() sections} directly.
+     */
+    public void invalidate() {
+        this.chunkCache.invalidate();
+        for (Heightmap heightmap : heightmaps) heightmap.invalidate();
+        for (int i = 0; i < sectionModifications.length; i++) sectionModifications[i]++;
+        this.entriesModifications++;
     }
 
     private @NotNull ChunkDataPacket createChunkPacket() {
         final NBTCompound heightmapsNBT;
-        // TODO: don't hardcode heightmaps
-        // Heightmap
-        {
-            int dimensionHeight = getInstance().getDimensionType().getHeight();
-            int[] motionBlocking = new int[16 * 16];
-            int[] worldSurface = new int[16 * 16];
-            for (int x = 0; x < 16; x++) {
-                for (int z = 0; z < 16; z++) {
-                    motionBlocking[x + z * 16] = 0;
-                    worldSurface[x + z * 16] = dimensionHeight - 1;
-                }
-            }
-            final int bitsForHeight = MathUtils.bitsToRepresent(dimensionHeight);
-            heightmapsNBT = NBT.Compound(Map.of(
-                    "MOTION_BLOCKING", NBT.LongArray(encodeBlocks(motionBlocking, bitsForHeight)),
-                    "WORLD_SURFACE", NBT.LongArray(encodeBlocks(worldSurface, bitsForHeight))));
-        }
-        // Data
-
         final byte[] data;
         synchronized (this) {
+            // Heightmap
+            heightmapsNBT = NBT.Compound(Map.of(
+                    "MOTION_BLOCKING", NBT.LongArray(getHeightmap(Heightmap.Type.MOTION_BLOCKING).encode()),
+                    "WORLD_SURFACE", NBT.LongArray(getHeightmap(Heightmap.Type.WORLD_SURFACE).encode())));
+            // Data
             data = ObjectPool.PACKET_POOL.use(buffer ->
                     NetworkBuffer.makeArray(networkBuffer -> {
                         for (Section section : sections) networkBuffer.write(section);
@@ -283,16 +401,40 @@ public class DynamicChunk extends Chunk {
 
     @Override
     public @NotNull ChunkSnapshot updateSnapshot(@NotNull SnapshotUpdater updater) {
-        Section[] clonedSections = new Section[sections.size()];
-        for (int i = 0; i < clonedSections.length; i++)
-            clonedSections[i] = sections.get(i).clone();
         var entities = instance.getEntityTracker().chunkEntities(chunkX, chunkZ, EntityTracker.Target.ENTITIES);
         final int[] entityIds = ArrayUtils.mapToIntArray(entities, Entity::getEntityId);
         return new SnapshotImpl.Chunk(minSection, chunkX, chunkZ,
-                clonedSections, entries.clone(), entityIds, updater.reference(instance),
+                snapshotSections(), snapshotEntries(), entityIds, updater.reference(instance),
                 tagHandler().readableCopy());
     }
 
+    private Section[] snapshotSections() {
+        final Section[] previous = this.snapshotSections;
+        final long[] previousModifications = this.snapshotSectionModifications;
+        if (previous != null && Arrays.equals(previousModifications, sectionModifications)) {
+            // Unchanged since the last snapshot
+            return previous;
+        }
+        // Only clone modified sections, previous clones are never modified
+        Section[] clonedSections = new Section[sections.size()];
+        for (int i = 0; i < clonedSections.length; i++) {
+            clonedSections[i] = previous != null && previousModifications[i] == sectionModifications[i] ?
+                    previous[i] : sections.get(i).clone();
+        }
+        this.snapshotSections = clonedSections;
+        this.snapshotSectionModifications = sectionModifications.clone();
+        return clonedSections;
+    }
+
+    private Int2ObjectOpenHashMap<Block> snapshotEntries() {
+        Int2ObjectOpenHashMap<Block> snapshotEntries = this.snapshotEntries;
+        if (snapshotEntries == null || snapshotEntriesModifications != entriesModifications) {
+            this.snapshotEntries = snapshotEntries = entries.clone();
+            this.snapshotEntriesModifications = entriesModifications;
+        }
+        return snapshotEntries;
+    }
+
     private void assertLock() {
         assert Thread.holdsLock(this) : "Chunk must be locked before access";
     }
@@ -319,7 +461,7 @@ public class DynamicChunk extends Chunk {
             70409299, 70409299, 0, 69273666, 69273666, 0, 68174084, 68174084, 0, Integer.MIN_VALUE,
             0, 5};
 
-    private static long[] encodeBlocks(int[] blocks, int bitsPerEntry) {
+    static long[] encodeBlocks(int[] blocks, int bitsPerEntry) {
         final long maxEntryValue = (1L << bitsPerEntry) - 1;
         final char valuesPerLong = (char) (64 / bitsPerEntry);
         final int magicIndex = 3 * (valuesPerLong - 1);
@@ -57,10 +57,10 @@ public abstract class Explosion {
      */
     public void apply(@NotNull Instance instance) {
         List<Point> blocks = prepare(instance);
+        destroyBlocks(instance, blocks);
         byte[] records = new byte[3 * blocks.size()];
         for (int i = 0; i < blocks.size(); i++) {
             final var pos = blocks.get(i);
-            instance.setBlock(pos, Block.AIR);
             final byte x = (byte) (pos.x() - Math.floor(getCenterX()));
             final byte y = (byte) (pos.y() - Math.floor(getCenterY()));
             final byte z = (byte) (pos.z() - Math.floor(getCenterZ()));
@@ -78,6 +78,18 @@ public abstract class Explosion {
         postSend(instance, blocks);
     }
 
+    /**
+     * Removes the blocks destroyed by the explosion, called before building the packet.
+     *
+     * @param instance the instance in which the explosion occurs
+     * @param blocks   the block positions returned by prepare
+     */
+    protected void destroyBlocks(@NotNull Instance instance, @NotNull List<Point> blocks) {
+        for (Point block : blocks) {
+            instance.setBlock(block, Block.AIR);
+        }
+    }
+
     /**
      * Called after removing blocks and preparing the packet, but before sending it.
      *
@@ -0,0 +1,153 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.utils.MathUtils;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Height of the highest block matching a predicate for each column of a chunk.
+ * <p>
+ * Computed from the section palettes on first use, then updated on each block change.
+ * Removing the highest block of a column rescans the column below it, skipping empty sections.
+ * <p>
+ * Must be accessed while holding the chunk lock.
+ */
+public final class Heightmap {
+
+    public enum Type {
+        /**
+         * Highest non-air block.
+         */
+        WORLD_SURFACE(block -> !block.isAir()),
+        /**
+         * Highest block blocking motion or containing a fluid.
+         */
+        MOTION_BLOCKING(block -> block.isSolid() || block.isLiquid() || "true".equals(block.getProperty("waterlogged"))),
+        /**
+         * Highest block blocking motion.
+         */
+        OCEAN_FLOOR(Block::isSolid);
+
+        private final Predicate<Block> predicate;
+
+        Type(Predicate<Block> predicate) {
+            this.predicate = predicate;
+        }
+    }
+
+    private final Chunk chunk;
+    private final Predicate<Block> predicate;
+    private final int minY, height;
+    // Height above the highest matching block relative to the minimum Y, 0 if none
+    private final int[] heights = new int[Chunk.CHUNK_SIZE_X * Chunk.CHUNK_SIZE_Z];
+    private boolean computed;
+
+    Heightmap(@NotNull Chunk chunk, @NotNull Predicate<Block> predicate) {
+        this.chunk = chunk;
+        this.predicate = predicate;
+        this.minY = chunk.getMinSection() * Chunk.CHUNK_SECTION_SIZE;
+        this.height = (chunk.getMaxSection() - chunk.getMinSection()) * Chunk.CHUNK_SECTION_SIZE;
+    }
+
+    Heightmap(@NotNull Chunk chunk, @NotNull Type type) {
+        this(chunk, type.predicate);
+    }
+
+    /**
+     * Gets the Y coordinate above the highest matching block of a column.
+     *
+     * @param x the block X
+     * @param z the block Z
+     * @return the Y above the highest matching block, the minimum Y of the dimension if none
+     */
+    public int getHeight(int x, int z) {
+        synchronized (chunk) {
+            compute();
+            return minY + heights[index(x, z)];
+        }
+    }
+
+    /**
+     * Updates the column of a changed block.
+     */
+    void update(int x, int y, int z, @NotNull Block block) {
+        if (!computed) return;
+        x = ChunkUtils.toSectionRelativeCoordinate(x);
+        z = ChunkUtils.toSectionRelativeCoordinate(z);
+        final int index = z << 4 | x;
+        final int relative = y - minY + 1;
+        final int current = heights[index];
+        if (predicate.test(block)) {
+            if (relative > current) this.heights[index] = relative;
+        } else if (relative == current) {
+            // Highest block removed
+            this.heights[index] = scan(x, y - 1, z);
+        }
+    }
+
+    /**
+     * Recomputes every column on next use, to be called after modifying the sections directly.
+     */
+    void invalidate() {
+        this.computed = false;
+    }
+
+    /**
+     * Copies the heights, as absolute Y coordinates.
+     *
+     * @param heights the array to fill, indexed by {@code z << 4 | x}
+     */
+    void copyTo(int[] heights) {
+        compute();
+        for (int i = 0; i < heights.length; i++) heights[i] = minY + this.heights[i];
+    }
+
+    /**
+     * Encodes the heights in the packed long format of the chunk packet.
+     *
+     * @return the packed heights
+     */
+    long @NotNull [] encode() {
+        compute();
+        return DynamicChunk.encodeBlocks(heights, MathUtils.bitsToRepresent(height));
+    }
+
+    private void compute() {
+        if (computed) return;
+        for (int x = 0; x < Chunk.CHUNK_SIZE_X; x++) {
+            for (int z = 0; z < Chunk.CHUNK_SIZE_Z; z++) {
+                this.heights[z << 4 | x] = scan(x, minY + height - 1, z);
+            }
+        }
+        this.computed = true;
+    }
+
+    private int scan(int x, int fromY, int z) {
+        int y = fromY;
+        while (y >= minY) {
+            final Palette palette = chunk.getSectionAt(y).blockPalette();
+            final int sectionMinY = ChunkUtils.getChunkCoordinate(y) * Chunk.CHUNK_SECTION_SIZE;
+            if (palette.count() == 0) {
+                // Only air
+                y = sectionMinY - 1;
+                continue;
+            }
+            for (; y >= sectionMinY; y--) {
+                final int stateId = palette.get(x, y - sectionMinY, z);
+                if (stateId == 0) continue;
+                final Block block = Objects.requireNonNullElse(Block.fromStateId((short) stateId), Block.AIR);
+                if (predicate.test(block)) return y - minY + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static int index(int x, int z) {
+        return ChunkUtils.toSectionRelativeCoordinate(z) << 4 | ChunkUtils.toSectionRelativeCoordinate(x);
+    }
+}
@@ -23,6 +23,7 @@ import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.generator.Generator;
+import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.network.packet.server.play.BlockActionPacket;
 import net.minestom.server.network.packet.server.play.TimeUpdatePacket;
 import net.minestom.server.snapshot.*;
@@ -87,6 +88,10 @@ public abstract class Instance implements Block.Getter, Block.Setter,
 
     private final ChunkCache blockRetriever = new ChunkCache(this, null, null);
 
+    // Chunks close enough to a player to be ticked
+    private final ActiveChunkTracker activeChunks = new ActiveChunkTracker();
+    private volatile int simulationDistance = ActiveChunkTracker.DEFAULT_DISTANCE;
+
     // the uuid of this instance
     protected UUID uniqueId;
 
@@ -546,6 +551,65 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return block;
     }
 
+    /**
+     * Reads the block state ids of a box into an array, resolving and locking each chunk once.
+     * <p>
+     * States are ordered by Y, then Z, then X: the state at (x, y, z) is at index
+     * {@code ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX)}.
+     * Positions in unloaded chunks are set to {@link BlockAccessor#UNLOADED}, positions outside the dimension height to air.
+     *
+     * @param min    the minimum corner of the box, inclusive
+     * @param max    the maximum corner of the box, inclusive
+     * @param states the array to fill, at least as large as the box volume
+     * @throws IllegalArgumentException if {@code max} is lower than {@code min} or if the array is too small
+     * @see BlockAccessor
+     */
+    @ApiStatus.Experimental
+    public void getBlockStates(@NotNull Point min, @NotNull Point max, int @NotNull [] states) {
+        final int minX = min.blockX(), minY = min.blockY(), minZ = min.blockZ();
+        final int maxX = max.blockX(), maxY = max.blockY(), maxZ = max.blockZ();
+        Check.argCondition(maxX < minX || maxY < minY || maxZ < minZ, "The maximum corner must be greater than the minimum corner");
+        final int sizeX = maxX - minX + 1, sizeY = maxY - minY + 1, sizeZ = maxZ - minZ + 1;
+        final long volume = (long) sizeX * sizeY * sizeZ;
+        Check.argCondition(volume > states.length, "The array is too small for the box ({0} < {1})", states.length, volume);
+        final int dimensionMinY = getDimensionType().getMinY();
+        final int dimensionMaxY = dimensionMinY + getDimensionType().getHeight();
+        for (int chunkX = ChunkUtils.getChunkCoordinate(minX); chunkX <= ChunkUtils.getChunkCoordinate(maxX); chunkX++) {
+            for (int chunkZ = ChunkUtils.getChunkCoordinate(minZ); chunkZ <= ChunkUtils.getChunkCoordinate(maxZ); chunkZ++) {
+                final int startX = Math.max(minX, chunkX * Chunk.CHUNK_SIZE_X);
+                final int endX = Math.min(maxX, chunkX * Chunk.CHUNK_SIZE_X + Chunk.CHUNK_SIZE_X - 1);
+                final int startZ = Math.max(minZ, chunkZ * Chunk.CHUNK_SIZE_Z);
+                final int endZ = Math.min(maxZ, chunkZ * Chunk.CHUNK_SIZE_Z + Chunk.CHUNK_SIZE_Z - 1);
+                final Chunk chunk = getChunk(chunkX, chunkZ);
+                if (chunk == null) {
+                    for (int y = minY; y <= maxY; y++) {
+                        for (int z = startZ; z <= endZ; z++) {
+                            final int index = ((y - minY) * sizeZ + (z - minZ)) * sizeX + (startX - minX);
+                            Arrays.fill(states, index, index + endX - startX + 1, BlockAccessor.UNLOADED);
+                        }
+                    }
+                    continue;
+                }
+                synchronized (chunk) {
+                    for (int y = minY; y <= maxY; y++) {
+                        final Palette palette = y >= dimensionMinY && y < dimensionMaxY ?
+                                chunk.getSectionAt(y).blockPalette() : null;
+                        final int sectionY = ChunkUtils.toSectionRelativeCoordinate(y);
+                        for (int z = startZ; z <= endZ; z++) {
+                            int index = ((y - minY) * sizeZ + (z - minZ)) * sizeX + (startX - minX);
+                            final int sectionZ = ChunkUtils.toSectionRelativeCoordinate(z);
+                            for (int x = startX; x <= endX; x++) {
+                                states[index++] = palette != null ?
+                                        palette.get(ChunkUtils.toSectionRelativeCoordinate(x), sectionY, sectionZ) :
+                                        Block.AIR.stateId();
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Sends a {@link BlockActionPacket} for all the viewers of the specific position.
      *
@@ -561,6 +625,23 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         chunk.sendPacketToViewers(new BlockActionPacket(blockPosition, actionId, actionParam, block));
     }
 
+    /**
+     * Schedules a tick of the block handler at a position, replacing its previously scheduled tick.
+     * <p>
+     * Allows handlers to tick on demand instead of being {@link BlockHandler#isTickable() tickable}.
+     *
+     * @param blockPosition the block position
+     * @param delay         the number of ticks before the block tick, at least 1
+     * @see Chunk#scheduleBlockTick(int, int, int, int)
+     */
+    @ApiStatus.Experimental
+    public void scheduleBlockTick(@NotNull Point blockPosition, int delay) {
+        Check.argCondition(delay < 1, "The delay must be at least 1 tick");
+        final Chunk chunk = getChunkAt(blockPosition);
+        Check.notNull(chunk, "The chunk at {0} is not loaded!", blockPosition);
+        chunk.scheduleBlockTick(blockPosition.blockX(), blockPosition.blockY(), blockPosition.blockZ(), delay);
+    }
+
     /**
      * Gets the {@link Chunk} at the given block position, null if not loaded.
      *
@@ -626,6 +707,64 @@ public abstract class Instance implements Block.Getter, Block.Setter,
             this.lastTickAge = time;
         }
         this.worldBorder.update();
+        // Simulated chunks
+        updateSimulatedChunks(simulationDistance);
+    }
+
+    /**
+     * Gets the simulation distance, in chunks.
+     * <p>
+     * Only the chunks within this distance of a player have their block handlers and entities ticked.
+     * 0 (the default, overridden by the {@code minestom.simulation-distance} system property) simulates every loaded chunk.
+     *
+     * @return the simulation distance, 0 if disabled
+     */
+    public int getSimulationDistance() {
+        return simulationDistance;
+    }
+
+    /**
+     * Changes the simulation distance, the simulated chunks are updated immediately.
+     *
+     * @param simulationDistance the new simulation distance in chunks, 0 to simulate every loaded chunk
+     * @throws IllegalArgumentException if {@code simulationDistance} is negative
+     * @see #getSimulationDistance()
+     */
+    public void setSimulationDistance(int simulationDistance) {
+        Check.argCondition(simulationDistance < 0, "The simulation distance cannot be negative");
+        updateSimulatedChunks(simulationDistance);
+        this.simulationDistance = simulationDistance;
+    }
+
+    /**
+     * Gets if a chunk is within the simulation distance of a player.
+     * <p>
+     * Always true if the simulation distance is disabled.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @return true if the chunk block handlers and entities are ticked
+     */
+    public boolean isChunkSimulated(int chunkX, int chunkZ) {
+        return simulationDistance == 0 || activeChunks.isActive(chunkX, chunkZ);
+    }
+
+    /**
+     * Rebuilds the simulated chunks if a player changed chunk or the distance changed.
+     *
+     * @param simulationDistance the simulation distance, 0 if disabled
+     */
+    void updateSimulatedChunks(int simulationDistance) {
+        if (simulationDistance > 0) this.activeChunks.update(getSimulationPlayers(), simulationDistance);
+    }
+
+    /**
+     * Gets the players whose position make chunks simulated.
+     *
+     * @return the players around which chunks are simulated
+     */
+    @NotNull Collection<@NotNull Player> getSimulationPlayers() {
+        return getPlayers();
     }
 
     @Override
@@ -21,6 +21,7 @@ import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
 import net.minestom.server.network.packet.server.play.EffectPacket;
 import net.minestom.server.network.packet.server.play.UnloadChunkPacket;
 import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.PropertyUtils;
 import net.minestom.server.utils.async.AsyncUtils;
 import net.minestom.server.utils.block.BlockUtils;
 import net.minestom.server.utils.chunk.ChunkCache;
@@ -50,6 +51,10 @@ import static net.minestom.server.utils.chunk.ChunkUtils.*;
  */
 public class InstanceContainer extends Instance {
     private static final AnvilLoader DEFAULT_LOADER = new AnvilLoader("world");
+    private static final boolean COALESCED_BLOCK_UPDATES = PropertyUtils.getBoolean("minestom.instance.coalesced-block-updates", false);
+    private static final boolean CHUNK_LOCKED_BLOCK_WRITES = PropertyUtils.getBoolean("minestom.instance.chunk-locked-block-writes", false);
+    private static final boolean QUEUED_NEIGHBOUR_UPDATES = PropertyUtils.getBoolean("minestom.instance.queued-neighbour-updates", false);
+    private static final ChunkRetentionPolicy DEFAULT_RETENTION_POLICY = defaultRetentionPolicy();
 
     // the shared instances assigned to this instance
     private final List<SharedInstance> sharedInstances = new CopyOnWriteArrayList<>();
@@ -63,6 +68,18 @@ public class InstanceContainer extends Instance {
 
     private final Lock changingBlockLock = new ReentrantLock();
     private final Map<Point, Block> currentlyChangingBlocks = new HashMap<>();
+    // blocks being changed by the current thread, replaces currentlyChangingBlocks with chunk locked block writes
+    private final ThreadLocal<Map<Point, Block>> localChangingBlocks = ThreadLocal.withInitial(HashMap::new);
+    private volatile boolean chunkLockedBlockWrites = CHUNK_LOCKED_BLOCK_WRITES;
+    // block changes sent at the end of the tick, only used with coalesced block updates
+    private final BlockChangeJournal blockChangeJournal = new BlockChangeJournal();
+    private volatile boolean coalescedBlockUpdates = COALESCED_BLOCK_UPDATES;
+    // neighbours waiting for their placement rule, only used with queued neighbour updates
+    private volatile boolean queuedNeighbourUpdates = QUEUED_NEIGHBOUR_UPDATES;
+    private final NeighbourUpdateQueue neighbourUpdates = new NeighbourUpdateQueue();
+    // idle chunks unloading, disabled if the policy is null
+    private final ChunkRetention chunkRetention = new ChunkRetention(this);
+    private volatile ChunkRetentionPolicy chunkRetentionPolicy = DEFAULT_RETENTION_POLICY;
 
     // the chunk loader, used when trying to load/save a chunk from another source
     private IChunkLoader chunkLoader;
@@ -111,8 +128,19 @@ public class InstanceContainer extends Instance {
      * @param z     the block Z
      * @param block the block to place
      */
-    private synchronized void UNSAFE_setBlock(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block,
-                                              @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy) {
+    private void UNSAFE_setBlock(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block,
+                                 @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy) {
+        if (chunkLockedBlockWrites) {
+            UNSAFE_setBlockChunkLocked(chunk, x, y, z, block, placement, destroy);
+        } else {
+            UNSAFE_setBlockInstanceLocked(chunk, x, y, z, block, placement, destroy);
+        }
+        // Neighbours queued by this change, nested calls return immediately
+        if (queuedNeighbourUpdates) this.neighbourUpdates.process(this::updateNeighbour);
+    }
+
+    private synchronized void UNSAFE_setBlockInstanceLocked(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block,
+                                                            @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy) {
         if (chunk.isReadOnly()) return;
         synchronized (chunk) {
             // Refresh the last block change time
@@ -126,7 +154,6 @@ public class InstanceContainer extends Instance {
             this.currentlyChangingBlocks.put(blockPosition, block);
 
             final Block previousBlock = chunk.getBlock(blockPosition);
-            final BlockHandler previousHandler = previousBlock.handler();
 
             // Change id based on neighbors
             final BlockPlacementRule blockPlacementRule = MinecraftServer.getBlockManager().getBlockPlacementRule(block);
@@ -141,30 +168,81 @@ public class InstanceContainer extends Instance {
             executeNeighboursBlockPlacementRule(blockPosition);
 
             // Refresh player chunk block
-            {
-                chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, block.stateId()));
-                var registry = block.registry();
-                if (registry.isBlockEntity()) {
-                    final NBTCompound data = BlockUtils.extractClientNbt(block);
-                    chunk.sendPacketToViewers(new BlockEntityDataPacket(blockPosition, registry.blockEntityId(), data));
-                }
+            refreshBlock(chunk, x, y, z, blockPosition, block);
+
+            executeHandlers(blockPosition, previousBlock, block, placement, destroy);
+        }
+    }
+
+    /**
+     * Sets a block only holding the chunk lock, block writes in different chunks can run concurrently.
+     * <p>
+     * Recursion is tracked per thread, and no other chunk is accessed while the lock is held:
+     * the placement rule is applied before acquiring it, neighbours and handlers are updated after.
+     */
+    private void UNSAFE_setBlockChunkLocked(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block,
+                                            @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy) {
+        if (chunk.isReadOnly()) return;
+        final Map<Point, Block> changingBlocks = localChangingBlocks.get();
+        final Vec blockPosition = new Vec(x, y, z);
+        if (Objects.equals(changingBlocks.get(blockPosition), block)) return; // do NOT change the block again.
+        final boolean outermost = changingBlocks.isEmpty();
+        changingBlocks.put(blockPosition, block);
+        try {
+            // Refresh the last block change time
+            this.lastBlockChangeTime = System.currentTimeMillis();
+
+            // Change id based on neighbors
+            final BlockPlacementRule blockPlacementRule = MinecraftServer.getBlockManager().getBlockPlacementRule(block);
+            if (blockPlacementRule != null) {
+                block = blockPlacementRule.blockUpdate(new BlockPlacementRule.UpdateState(this, blockPosition, block));
             }
 
-            if (previousHandler != null) {
-                // Previous destroy
-                previousHandler.onDestroy(Objects.requireNonNullElseGet(destroy,
-                        () -> new BlockHandler.Destroy(previousBlock, this, blockPosition)));
+            final Block previousBlock;
+            synchronized (chunk) {
+                // Unloaded while the placement rule was applied
+                if (!chunk.isLoaded()) return;
+                previousBlock = chunk.getBlock(blockPosition);
+                chunk.setBlock(x, y, z, block);
+                refreshBlock(chunk, x, y, z, blockPosition, block);
             }
-            final BlockHandler handler = block.handler();
-            if (handler != null) {
-                // New placement
-                final Block finalBlock = block;
-                handler.onPlace(Objects.requireNonNullElseGet(placement,
-                        () -> new BlockHandler.Placement(finalBlock, this, blockPosition)));
+
+            executeNeighboursBlockPlacementRule(blockPosition);
+            executeHandlers(blockPosition, previousBlock, block, placement, destroy);
+        } finally {
+            if (outermost) changingBlocks.clear();
+        }
+    }
+
+    private void refreshBlock(Chunk chunk, int x, int y, int z, Vec blockPosition, Block block) {
+        if (coalescedBlockUpdates) {
+            this.blockChangeJournal.record(chunk, x, y, z, block);
+        } else {
+            chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, block.stateId()));
+            var registry = block.registry();
+            if (registry.isBlockEntity()) {
+                final NBTCompound data = BlockUtils.extractClientNbt(block);
+                chunk.sendPacketToViewers(new BlockEntityDataPacket(blockPosition, registry.blockEntityId(), data));
             }
         }
     }
 
+    private void executeHandlers(Vec blockPosition, Block previousBlock, Block block,
+                                 @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy) {
+        final BlockHandler previousHandler = previousBlock.handler();
+        if (previousHandler != null) {
+            // Previous destroy
+            previousHandler.onDestroy(Objects.requireNonNullElseGet(destroy,
+                    () -> new BlockHandler.Destroy(previousBlock, this, blockPosition)));
+        }
+        final BlockHandler handler = block.handler();
+        if (handler != null) {
+            // New placement
+            handler.onPlace(Objects.requireNonNullElseGet(placement,
+                    () -> new BlockHandler.Placement(block, this, blockPosition)));
+        }
+    }
+
     @Override
     public boolean placeBlock(@NotNull BlockHandler.Placement placement) {
         final Point blockPosition = placement.getBlockPosition();
@@ -229,7 +307,11 @@ public class InstanceContainer extends Instance {
         getEntityTracker().chunkEntities(chunkX, chunkZ, EntityTracker.Target.ENTITIES).forEach(Entity::remove);
         // Clear cache
         this.chunks.remove(getChunkIndex(chunkX, chunkZ));
-        chunk.unload();
+        this.chunkRetention.onUnload(chunk);
+        synchronized (chunk) {
+            // Waits for the blocks being written without the instance lock
+            chunk.unload();
+        }
         if (chunkLoader != null) {
             chunkLoader.unloadChunk(chunk);
         }
@@ -331,10 +413,10 @@ public class InstanceContainer extends Instance {
                                     applyFork(forkChunk, sectionModifier);
                                     // Update players
                                     if (forkChunk instanceof LightingChunk lightingChunk) {
-                                        lightingChunk.chunkCache.invalidate();
+                                        lightingChunk.invalidate();
                                         lightingChunk.lightCache.invalidate();
                                     } else if (forkChunk instanceof DynamicChunk dynamicChunk) {
-                                        dynamicChunk.chunkCache.invalidate();
+                                        dynamicChunk.invalidate();
                                     }
                                     forkChunk.sendChunk();
                                 } else {
@@ -465,6 +547,17 @@ public class InstanceContainer extends Instance {
         return !sharedInstances.isEmpty();
     }
 
+    @Override
+    @NotNull Collection<@NotNull Player> getSimulationPlayers() {
+        if (sharedInstances.isEmpty()) return getPlayers();
+        // Shared instances use the chunks of this container
+        List<Player> players = new ArrayList<>(getPlayers());
+        for (SharedInstance sharedInstance : sharedInstances) {
+            players.addAll(sharedInstance.getPlayers());
+        }
+        return players;
+    }
+
     /**
      * Assigns a {@link SharedInstance} to this container.
      * <p>
@@ -492,7 +585,10 @@ public class InstanceContainer extends Instance {
         for (Chunk chunk : chunks.values()) {
             final int chunkX = chunk.getChunkX();
             final int chunkZ = chunk.getChunkZ();
-            final Chunk copiedChunk = chunk.copy(copiedInstance, chunkX, chunkZ);
+            final Chunk copiedChunk;
+            synchronized (chunk) {
+                copiedChunk = chunk.copy(copiedInstance, chunkX, chunkZ);
+            }
             copiedInstance.cacheChunk(copiedChunk);
         }
         return copiedInstance;
@@ -575,6 +671,126 @@ public class InstanceContainer extends Instance {
         wrlock.lock();
         this.currentlyChangingBlocks.clear();
         wrlock.unlock();
+        // Neighbour updates carried over from the previous tick, even if queuing has been disabled since
+        this.neighbourUpdates.newTick();
+        this.neighbourUpdates.process(this::updateNeighbour);
+        // Unload idle chunks
+        final ChunkRetentionPolicy retentionPolicy = this.chunkRetentionPolicy;
+        if (retentionPolicy != null) this.chunkRetention.tick(retentionPolicy, getWorldAge());
+    }
+
+    /**
+     * Gets the policy used to unload the chunks nobody is viewing.
+     *
+     * @return the chunk retention policy, null if chunks are only unloaded with {@link #unloadChunk(Chunk)}
+     */
+    public @Nullable ChunkRetentionPolicy getChunkRetentionPolicy() {
+        return chunkRetentionPolicy;
+    }
+
+    /**
+     * Changes the policy used to unload the chunks nobody is viewing.
+     * <p>
+     * Disabled by default, unless the {@code minestom.instance.chunk-retention-ticks} system property is set
+     * (along with {@code minestom.instance.chunk-retention-max-chunks} and {@code minestom.instance.chunk-retention-save}).
+     *
+     * @param chunkRetentionPolicy the new chunk retention policy, null to disable automatic unloading
+     */
+    public void setChunkRetentionPolicy(@Nullable ChunkRetentionPolicy chunkRetentionPolicy) {
+        this.chunkRetentionPolicy = chunkRetentionPolicy;
+    }
+
+    /**
+     * Gets the number of loaded chunks and the number of chunks unloaded by the {@link ChunkRetentionPolicy}.
+     *
+     * @return the chunk retention statistics
+     */
+    public @NotNull ChunkRetentionPolicy.Statistics getChunkRetentionStatistics() {
+        return chunkRetention.statistics();
+    }
+
+    /**
+     * Gets if block writes only hold the lock of their chunk.
+     *
+     * @return true if block writes are locked per chunk
+     * @see #setChunkLockedBlockWrites(boolean)
+     */
+    @ApiStatus.Experimental
+    public boolean hasChunkLockedBlockWrites() {
+        return chunkLockedBlockWrites;
+    }
+
+    /**
+     * Changes if block writes only hold the lock of their chunk instead of the instance,
+     * letting writes to different chunks run concurrently.
+     * <p>
+     * Defaults to the {@code minestom.instance.chunk-locked-block-writes} system property.
+     * Should not be changed while blocks are being written.
+     *
+     * @param chunkLockedBlockWrites true to lock block writes per chunk
+     */
+    @ApiStatus.Experimental
+    public void setChunkLockedBlockWrites(boolean chunkLockedBlockWrites) {
+        this.chunkLockedBlockWrites = chunkLockedBlockWrites;
+    }
+
+    /**
+     * Gets if block changes are coalesced and sent at the end of the tick.
+     *
+     * @return true if block changes are coalesced
+     * @see #setCoalescedBlockUpdates(boolean)
+     */
+    @ApiStatus.Experimental
+    public boolean hasCoalescedBlockUpdates() {
+        return coalescedBlockUpdates;
+    }
+
+    /**
+     * Changes if block changes are coalesced and sent per section at the end of the tick, instead of immediately.
+     * <p>
+     * Defaults to the {@code minestom.instance.coalesced-block-updates} system property.
+     *
+     * @param coalescedBlockUpdates true to coalesce block changes
+     */
+    @ApiStatus.Experimental
+    public void setCoalescedBlockUpdates(boolean coalescedBlockUpdates) {
+        this.coalescedBlockUpdates = coalescedBlockUpdates;
+        if (!coalescedBlockUpdates) flushBlockChanges();
+    }
+
+    /**
+     * Gets if neighbour placement rule updates are queued and processed iteratively.
+     *
+     * @return true if neighbour updates are queued
+     * @see #setQueuedNeighbourUpdates(boolean)
+     */
+    @ApiStatus.Experimental
+    public boolean hasQueuedNeighbourUpdates() {
+        return queuedNeighbourUpdates;
+    }
+
+    /**
+     * Changes if neighbour placement rule updates are queued and processed iteratively with a per-tick budget,
+     * instead of recursively.
+     * <p>
+     * Defaults to the {@code minestom.instance.queued-neighbour-updates} system property.
+     * Updates still queued when disabled are processed during the next ticks.
+     *
+     * @param queuedNeighbourUpdates true to queue neighbour updates
+     */
+    @ApiStatus.Experimental
+    public void setQueuedNeighbourUpdates(boolean queuedNeighbourUpdates) {
+        this.queuedNeighbourUpdates = queuedNeighbourUpdates;
+    }
+
+    /**
+     * Sends the block changes recorded during the tick to the chunk viewers.
+     * <p>
+     * Only used with {@link #setCoalescedBlockUpdates(boolean) coalesced block updates}, called at the end of each tick.
+     */
+    @ApiStatus.Internal
+    public void flushBlockChanges() {
+        this.blockChangeJournal.flush();
     }
 
     /**
@@ -614,6 +830,11 @@ public class InstanceContainer extends Instance {
                         continue;
                     final BlockPlacementRule neighborBlockPlacementRule = MinecraftServer.getBlockManager().getBlockPlacementRule(neighborBlock);
                     if (neighborBlockPlacementRule == null) continue;
+                    if (queuedNeighbourUpdates) {
+                        // Updated iteratively once the current change is done
+                        this.neighbourUpdates.add(neighborX, neighborY, neighborZ);
+                        continue;
+                    }
 
                     final Vec neighborPosition = new Vec(neighborX, neighborY, neighborZ);
                     final Block newNeighborBlock = neighborBlockPlacementRule.blockUpdate(new BlockPlacementRule.UpdateState(this,
@@ -626,6 +847,25 @@ public class InstanceContainer extends Instance {
         }
     }
 
+    /**
+     * Applies the placement rule of a queued neighbour.
+     *
+     * @param position the neighbour position, packed by {@link NeighbourUpdateQueue}
+     */
+    private void updateNeighbour(long position) {
+        final int x = globalBlockIndexToPositionX(position);
+        final int y = globalBlockIndexToPositionY(position);
+        final int z = globalBlockIndexToPositionZ(position);
+        if (!isLoaded(getChunkAt(x, z))) return;
+        final Block block = getBlock(x, y, z, Condition.TYPE);
+        if (block == null) return;
+        final BlockPlacementRule blockPlacementRule = MinecraftServer.getBlockManager().getBlockPlacementRule(block);
+        if (blockPlacementRule == null) return;
+        final Vec blockPosition = new Vec(x, y, z);
+        final Block newBlock = blockPlacementRule.blockUpdate(new BlockPlacementRule.UpdateState(this, blockPosition, block));
+        if (block != newBlock) setBlock(blockPosition, newBlock);
+    }
+
     private CompletableFuture<Chunk> loadOrRetrieve(int chunkX, int chunkZ, Supplier<CompletableFuture<Chunk>> supplier) {
         final Chunk chunk = getChunk(chunkX, chunkZ);
         if (chunk != null) {
@@ -637,7 +877,16 @@ public class InstanceContainer extends Instance {
 
     private void cacheChunk(@NotNull Chunk chunk) {
         this.chunks.put(getChunkIndex(chunk), chunk);
+        if (chunkRetentionPolicy != null) this.chunkRetention.onLoad(chunk, getWorldAge());
         var dispatcher = MinecraftServer.process().dispatcher();
         dispatcher.createPartition(chunk);
     }
+
+    private static @Nullable ChunkRetentionPolicy defaultRetentionPolicy() {
+        final int idleTicks = Integer.getInteger("minestom.instance.chunk-retention-ticks", 0);
+        if (idleTicks <= 0) return null;
+        return new ChunkRetentionPolicy(idleTicks,
+                Integer.getInteger("minestom.instance.chunk-retention-max-chunks", 0),
+                PropertyUtils.getBoolean("minestom.instance.chunk-retention-save", false));
+    }
 }
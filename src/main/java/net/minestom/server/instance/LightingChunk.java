@@ -1,5 +1,8 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minestom.server.MinecraftServer;
@@ -17,6 +20,7 @@ import net.minestom.server.timer.TaskSchedule;
 import net.minestom.server.utils.NamespaceID;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.locks.ReentrantLock;
@@ -31,6 +35,7 @@ public class LightingChunk extends DynamicChunk {
     private static final int LIGHTING_CHUNKS_PER_SEND = Integer.getInteger("minestom.lighting.chunks-per-send", 10);
     private static final int LIGHTING_CHUNKS_SEND_DELAY = Integer.getInteger("minestom.lighting.chunks-send-delay", 100);
 
+    private final Heightmap skyHeightmap = new Heightmap(this, this::checkSkyOcclusion);
     private int[] heightmap;
     final CachedPacket lightCache = new CachedPacket(this::createLightPacket);
     boolean sendNeighbours = true;
@@ -103,6 +108,7 @@ public class LightingChunk extends DynamicChunk {
     @Override
     public void setBlock(int x, int y, int z, @NotNull Block block) {
         super.setBlock(x, y, z, block);
+        this.skyHeightmap.update(x, y, z, block);
         this.heightmap = null;
 
         // Invalidate neighbor chunks, since they can be updated by this block change
@@ -112,6 +118,25 @@ public class LightingChunk extends DynamicChunk {
         this.lightCache.invalidate();
     }
 
+    @Override
+    public void setBlocks(@NotNull Int2ObjectMap<Block> blocks, @Nullable Block.Setter previous) {
+        super.setBlocks(blocks, previous);
+        this.heightmap = null;
+
+        // Invalidate each changed section once
+        IntSet coordinates = new IntOpenHashSet();
+        for (Int2ObjectMap.Entry<Block> entry : blocks.int2ObjectEntrySet()) {
+            final int index = entry.getIntKey();
+            final int y = ChunkUtils.blockIndexToChunkPositionY(index);
+            this.skyHeightmap.update(ChunkUtils.blockIndexToChunkPositionX(index), y,
+                    ChunkUtils.blockIndexToChunkPositionZ(index), entry.getValue());
+            coordinates.add(ChunkUtils.getChunkCoordinate(y));
+        }
+        for (int coordinate : coordinates) invalidateSection(coordinate);
+
+        this.lightCache.invalidate();
+    }
+
     public void sendLighting() {
         if (!isLoaded()) return;
         sendPacketToViewers(lightCache);
@@ -123,29 +148,24 @@ public class LightingChunk extends DynamicChunk {
         updateAfterGeneration(this);
     }
 
-    public int[] calculateHeightMap() {
-        if (this.heightmap != null) return this.heightmap;
-        var heightmap = new int[CHUNK_SIZE_X * CHUNK_SIZE_Z];
-
-        int minY = instance.getDimensionType().getMinY();
-        int maxY = instance.getDimensionType().getMinY() + instance.getDimensionType().getHeight();
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        this.skyHeightmap.invalidate();
+        this.heightmap = null;
+    }
 
+    public int[] calculateHeightMap() {
         synchronized (this) {
-            for (int x = 0; x < CHUNK_SIZE_X; x++) {
-                for (int z = 0; z < CHUNK_SIZE_Z; z++) {
-                    int height = maxY;
-                    while (height > minY) {
-                        Block block = getBlock(x, height, z, Condition.TYPE);
-                        if (checkSkyOcclusion(block)) break;
-                        height--;
-                    }
-                    heightmap[z << 4 | x] = (height + 1);
-                }
-            }
+            if (this.heightmap != null) return this.heightmap;
+            var heightmap = new int[CHUNK_SIZE_X * CHUNK_SIZE_Z];
+            this.skyHeightmap.copyTo(heightmap);
+            // The lowest block never occludes the sky
+            final int minHeight = instance.getDimensionType().getMinY() + 1;
+            for (int i = 0; i < heightmap.length; i++) heightmap[i] = Math.max(heightmap[i], minHeight);
+            this.heightmap = heightmap;
+            return heightmap;
         }
-
-        this.heightmap = heightmap;
-        return heightmap;
     }
 
     @Override
@@ -0,0 +1,81 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minestom.server.utils.chunk.ChunkUtils;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+
+/**
+ * Breadth-first queue of block positions waiting for a placement rule update.
+ * <p>
+ * Positions are packed with {@link ChunkUtils#getGlobalBlockIndex(int, int, int)} and deduplicated while queued.
+ * At most {@code minestom.instance.neighbour-update-budget} updates are processed per tick,
+ * the remaining ones are carried over to the next tick.
+ */
+final class NeighbourUpdateQueue {
+    private static final int BUDGET = Integer.getInteger("minestom.instance.neighbour-update-budget", 4096);
+
+    private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+    private final LongOpenHashSet queued = new LongOpenHashSet();
+    private final AtomicBoolean processing = new AtomicBoolean();
+    private final int budget;
+    private int processed;
+
+    NeighbourUpdateQueue() {
+        this(BUDGET);
+    }
+
+    NeighbourUpdateQueue(int budget) {
+        this.budget = budget;
+    }
+
+    synchronized void add(int x, int y, int z) {
+        final long position = ChunkUtils.getGlobalBlockIndex(x, y, z);
+        if (queued.add(position)) queue.enqueue(position);
+    }
+
+    synchronized int size() {
+        return queue.size();
+    }
+
+    /**
+     * Resets the budget, to be called once per tick.
+     */
+    synchronized void newTick() {
+        this.processed = 0;
+    }
+
+    /**
+     * Processes the queued updates until the queue is empty or the budget is exhausted.
+     * <p>
+     * Positions queued by the updater are processed in the same loop.
+     * Does nothing if the queue is already being processed, making nested calls iterative.
+     *
+     * @param updater the update to run for each position
+     */
+    void process(LongConsumer updater) {
+        // Checked again once released, another thread may have queued positions while this one was finishing
+        while (hasPending() && processing.compareAndSet(false, true)) {
+            try {
+                while (true) {
+                    final long position;
+                    synchronized (this) {
+                        if (queue.isEmpty() || processed >= budget) break;
+                        position = queue.dequeueLong();
+                        this.queued.remove(position);
+                        this.processed++;
+                    }
+                    updater.accept(position);
+                }
+            } finally {
+                processing.set(false);
+            }
+        }
+    }
+
+    private synchronized boolean hasPending() {
+        return !queue.isEmpty() && processed < budget;
+    }
+}
@@ -0,0 +1,283 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.entity.damage.DamageType;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Explosion using the vanilla algorithm: rays are cast from the center,
+ * losing intensity with the distance and the explosion resistance of the crossed blocks.
+ * <p>
+ * Blocks are read from the section palettes once per explosion, however many rays cross them,
+ * and destroyed blocks are written per chunk with {@link Chunk#setBlocks(Int2ObjectMap, Block.Setter)}.
+ * Nearby entities are damaged and pushed according to their exposure to the center.
+ * <p>
+ * Placement rules and neighbours are not updated, handlers of destroyed blocks are notified
+ * with {@link BlockHandler#onDestroy(BlockHandler.Destroy)}. Read-only chunks are left intact.
+ */
+public class RaycastExplosion extends Explosion {
+    /**
+     * Supplies raycast explosions, see {@link Instance#setExplosionSupplier(ExplosionSupplier)}.
+     */
+    public static final ExplosionSupplier SUPPLIER = (centerX, centerY, centerZ, strength, additionalData) ->
+            new RaycastExplosion(centerX, centerY, centerZ, strength);
+
+    private static final double RAY_STEP = 0.3;
+    private static final double STEP_ATTENUATION = 0.22500001;
+    // Normalized direction of each ray, as x, y, z
+    private static final double[] RAYS = createRays();
+
+    private final boolean breakBlocks;
+    private final boolean affectEntities;
+    private final Random random;
+
+    public RaycastExplosion(float centerX, float centerY, float centerZ, float strength,
+                            boolean breakBlocks, boolean affectEntities, @Nullable Random random) {
+        super(centerX, centerY, centerZ, strength);
+        this.breakBlocks = breakBlocks;
+        this.affectEntities = affectEntities;
+        this.random = random;
+    }
+
+    public RaycastExplosion(float centerX, float centerY, float centerZ, float strength) {
+        this(centerX, centerY, centerZ, strength, true, true, null);
+    }
+
+    @Override
+    protected List<Point> prepare(Instance instance) {
+        final BlockCache cache = new BlockCache(instance);
+        final List<Point> blocks = breakBlocks ?
+                castRays(cache, Objects.requireNonNullElseGet(random, ThreadLocalRandom::current)) : List.of();
+        // Exposure is computed before the blocks are destroyed
+        if (affectEntities) affectEntities(instance, cache);
+        return blocks;
+    }
+
+    @Override
+    protected void destroyBlocks(@NotNull Instance instance, @NotNull List<Point> blocks) {
+        if (blocks.isEmpty()) return;
+        Map<Chunk, Int2ObjectMap<Block>> changes = new LinkedHashMap<>();
+        for (Point block : blocks) {
+            final Chunk chunk = instance.getChunkAt(block);
+            if (chunk == null) continue;
+            changes.computeIfAbsent(chunk, c -> new Int2ObjectOpenHashMap<>())
+                    .put(ChunkUtils.getBlockIndex(block.blockX(), block.blockY(), block.blockZ()), Block.AIR);
+        }
+        for (Map.Entry<Chunk, Int2ObjectMap<Block>> entry : changes.entrySet()) {
+            final Chunk chunk = entry.getKey();
+            final Int2ObjectMap<Block> chunkChanges = entry.getValue();
+            List<BlockHandler.Destroy> destroyed = null;
+            synchronized (chunk) {
+                if (!chunk.isLoaded() || chunk.isReadOnly()) continue;
+                for (int index : chunkChanges.keySet()) {
+                    final int x = chunk.getChunkX() * Chunk.CHUNK_SIZE_X + ChunkUtils.blockIndexToChunkPositionX(index);
+                    final int y = ChunkUtils.blockIndexToChunkPositionY(index);
+                    final int z = chunk.getChunkZ() * Chunk.CHUNK_SIZE_Z + ChunkUtils.blockIndexToChunkPositionZ(index);
+                    final Block previous = chunk.getBlock(x, y, z, Block.Getter.Condition.CACHED);
+                    if (previous == null || previous.handler() == null) continue;
+                    if (destroyed == null) destroyed = new ArrayList<>();
+                    destroyed.add(new BlockHandler.Destroy(previous, instance, new Vec(x, y, z)));
+                }
+                chunk.setBlocks(chunkChanges, null);
+            }
+            if (instance instanceof InstanceContainer container) {
+                container.refreshLastBlockChangeTime();
+            } else if (instance instanceof SharedInstance shared) {
+                shared.getInstanceContainer().refreshLastBlockChangeTime();
+            }
+            if (destroyed != null) {
+                for (BlockHandler.Destroy destroy : destroyed) {
+                    destroy.getBlock().handler().onDestroy(destroy);
+                }
+            }
+        }
+    }
+
+    private List<Point> castRays(BlockCache cache, Random random) {
+        final double centerX = getCenterX(), centerY = getCenterY(), centerZ = getCenterZ();
+        final float strength = getStrength();
+        LongOpenHashSet destroyed = new LongOpenHashSet();
+        List<Point> blocks = new ArrayList<>();
+        for (int i = 0; i < RAYS.length; i += 3) {
+            final double stepX = RAYS[i] * RAY_STEP, stepY = RAYS[i + 1] * RAY_STEP, stepZ = RAYS[i + 2] * RAY_STEP;
+            double x = centerX, y = centerY, z = centerZ;
+            double intensity = strength * (0.7 + random.nextDouble() * 0.6);
+            int blockX = Integer.MIN_VALUE, blockY = 0, blockZ = 0;
+            double resistance = 0;
+            boolean breakable = false;
+            while (intensity > 0) {
+                final int currentX = (int) Math.floor(x), currentY = (int) Math.floor(y), currentZ = (int) Math.floor(z);
+                if (currentX != blockX || currentY != blockY || currentZ != blockZ) {
+                    // Several steps are made in the same block
+                    blockX = currentX;
+                    blockY = currentY;
+                    blockZ = currentZ;
+                    final Block block = cache.block(blockX, blockY, blockZ);
+                    if (block == null) break; // Unloaded chunk
+                    breakable = !block.isAir();
+                    resistance = breakable ? (block.registry().explosionResistance() + 0.3) * 0.3 : 0;
+                }
+                intensity -= resistance;
+                if (intensity > 0 && breakable && destroyed.add(ChunkUtils.getGlobalBlockIndex(blockX, blockY, blockZ))) {
+                    blocks.add(new Vec(blockX, blockY, blockZ));
+                }
+                x += stepX;
+                y += stepY;
+                z += stepZ;
+                intensity -= STEP_ATTENUATION;
+            }
+        }
+        return blocks;
+    }
+
+    private void affectEntities(Instance instance, BlockCache cache) {
+        final Vec center = new Vec(getCenterX(), getCenterY(), getCenterZ());
+        final double radius = getStrength() * 2;
+        for (Entity entity : instance.getNearbyEntities(center, radius)) {
+            if (entity.isRemoved()) continue;
+            final Pos position = entity.getPosition();
+            final double distance = position.distance(center) / radius;
+            if (distance > 1) continue;
+            final Vec direction = Vec.fromPoint(position.add(0, entity.getEyeHeight(), 0)).sub(center);
+            final double length = direction.length();
+            if (length == 0) continue;
+            final double impact = (1 - distance) * exposure(cache, center, entity);
+            if (entity instanceof LivingEntity livingEntity) {
+                livingEntity.damage(DamageType.EXPLOSION, (float) ((impact * impact + impact) / 2 * 7 * radius + 1));
+            }
+            entity.setVelocity(entity.getVelocity().add(direction.div(length).mul(impact * MinecraftServer.TICK_PER_SECOND)));
+        }
+    }
+
+    /**
+     * Gets the fraction of the entity bounding box visible from the explosion center.
+     */
+    private static double exposure(BlockCache cache, Vec center, Entity entity) {
+        final BoundingBox boundingBox = entity.getBoundingBox();
+        final Pos position = entity.getPosition();
+        final double stepX = 1 / (boundingBox.width() * 2 + 1);
+        final double stepY = 1 / (boundingBox.height() * 2 + 1);
+        final double stepZ = 1 / (boundingBox.depth() * 2 + 1);
+        final double offsetX = (1 - Math.floor(1 / stepX) * stepX) / 2;
+        final double offsetZ = (1 - Math.floor(1 / stepZ) * stepZ) / 2;
+        int visible = 0, total = 0;
+        for (double a = 0; a <= 1; a += stepX) {
+            for (double b = 0; b <= 1; b += stepY) {
+                for (double c = 0; c <= 1; c += stepZ) {
+                    final double x = position.x() + boundingBox.minX() + boundingBox.width() * a + offsetX;
+                    final double y = position.y() + boundingBox.minY() + boundingBox.height() * b;
+                    final double z = position.z() + boundingBox.minZ() + boundingBox.depth() * c + offsetZ;
+                    if (!cache.blocked(x, y, z, center.x(), center.y(), center.z())) visible++;
+                    total++;
+                }
+            }
+        }
+        return total != 0 ? (double) visible / total : 0;
+    }
+
+    private static double[] createRays() {
+        DoubleArrayList rays = new DoubleArrayList();
+        for (int i = 0; i < 16; i++) {
+            for (int j = 0; j < 16; j++) {
+                for (int k = 0; k < 16; k++) {
+                    // Cube surface only
+                    if (i != 0 && i != 15 && j != 0 && j != 15 && k != 0 && k != 15) continue;
+                    final double x = i / 15.0 * 2 - 1, y = j / 15.0 * 2 - 1, z = k / 15.0 * 2 - 1;
+                    final double length = Math.sqrt(x * x + y * y + z * z);
+                    rays.add(x / length);
+                    rays.add(y / length);
+                    rays.add(z / length);
+                }
+            }
+        }
+        return rays.toDoubleArray();
+    }
+
+    /**
+     * Reads the blocks of an instance with a {@link BlockAccessor}, each position being read once.
+     */
+    private static final class BlockCache {
+        private static final int MISSING = Integer.MIN_VALUE;
+
+        private final BlockAccessor accessor;
+        private final Long2IntOpenHashMap states = new Long2IntOpenHashMap();
+
+        BlockCache(Instance instance) {
+            this.accessor = new BlockAccessor(instance);
+            this.states.defaultReturnValue(MISSING);
+        }
+
+        /**
+         * Gets the block at a position, null if unloaded.
+         */
+        @Nullable Block block(int x, int y, int z) {
+            final int state = state(x, y, z);
+            if (state == BlockAccessor.UNLOADED) return null;
+            return Objects.requireNonNullElse(Block.fromStateId((short) state), Block.AIR);
+        }
+
+        /**
+         * Gets if a solid block is between two positions, using a voxel traversal.
+         */
+        boolean blocked(double fromX, double fromY, double fromZ, double toX, double toY, double toZ) {
+            int x = (int) Math.floor(fromX), y = (int) Math.floor(fromY), z = (int) Math.floor(fromZ);
+            final double dx = toX - fromX, dy = toY - fromY, dz = toZ - fromZ;
+            final int stepX = (int) Math.signum(dx), stepY = (int) Math.signum(dy), stepZ = (int) Math.signum(dz);
+            final double deltaX = stepX != 0 ? Math.abs(1 / dx) : Double.MAX_VALUE;
+            final double deltaY = stepY != 0 ? Math.abs(1 / dy) : Double.MAX_VALUE;
+            final double deltaZ = stepZ != 0 ? Math.abs(1 / dz) : Double.MAX_VALUE;
+            double maxX = boundary(fromX, x, stepX, deltaX);
+            double maxY = boundary(fromY, y, stepY, deltaY);
+            double maxZ = boundary(fromZ, z, stepZ, deltaZ);
+            while (true) {
+                final Block block = block(x, y, z);
+                if (block != null && block.isSolid()) return true;
+                if (maxX > 1 && maxY > 1 && maxZ > 1) return false;
+                if (maxX < maxY && maxX < maxZ) {
+                    x += stepX;
+                    maxX += deltaX;
+                } else if (maxY < maxZ) {
+                    y += stepY;
+                    maxY += deltaY;
+                } else {
+                    z += stepZ;
+                    maxZ += deltaZ;
+                }
+            }
+        }
+
+        private static double boundary(double from, int block, int step, double delta) {
+            if (step > 0) return (block + 1 - from) * delta;
+            if (step < 0) return (from - block) * delta;
+            return Double.MAX_VALUE;
+        }
+
+        private int state(int x, int y, int z) {
+            final long key = ChunkUtils.getGlobalBlockIndex(x, y, z);
+            int state = states.get(key);
+            if (state == MISSING) {
+                state = accessor.getBlockStateId(x, y, z);
+                this.states.put(key, state);
+            }
+            return state;
+        }
+    }
+}
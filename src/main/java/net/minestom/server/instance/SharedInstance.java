@@ -117,6 +117,33 @@ public class SharedInstance extends Instance {
         return instanceContainer.isInVoid(point);
     }
 
+    @Override
+    public int getSimulationDistance() {
+        return instanceContainer.getSimulationDistance();
+    }
+
+    /**
+     * Changes the simulation distance of the {@link InstanceContainer}.
+     * <p>
+     * Chunks are shared, they are simulated around the players of the container and of all its shared instances.
+     *
+     * @param simulationDistance the new simulation distance in chunks, 0 to simulate every loaded chunk
+     */
+    @Override
+    public void setSimulationDistance(int simulationDistance) {
+        instanceContainer.setSimulationDistance(simulationDistance);
+    }
+
+    @Override
+    public boolean isChunkSimulated(int chunkX, int chunkZ) {
+        return instanceContainer.isChunkSimulated(chunkX, chunkZ);
+    }
+
+    @Override
+    void updateSimulatedChunks(int simulationDistance) {
+        // Tracked by the container
+    }
+
     /**
      * Gets the {@link InstanceContainer} from where this instance takes its chunks from.
      *
@@ -15,6 +15,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -180,6 +181,24 @@ public class AbsoluteBlockBatch implements Batch<Runnable> {
         return inverse;
     }
 
+    /**
+     * Applies this batch to the given instance, the chunks being applied concurrently by {@link BatchOption#getExecutor()}.
+     *
+     * @param instance The instance in which the batch should be applied
+     * @return A future completed once every chunk has been applied,
+     * with the inverse of this batch if inverse is enabled in the {@link BatchOption}
+     */
+    @ApiStatus.Experimental
+    public @NotNull CompletableFuture<@Nullable AbsoluteBlockBatch> applyAsync(@NotNull Instance instance) {
+        synchronized (chunkBatchesMap) {
+            CompletableFuture<Void> completion = new CompletableFuture<>();
+            final AbsoluteBlockBatch inverse = apply(instance, () -> completion.complete(null), false);
+            // Nothing to apply, the callback is never called
+            if (chunkBatchesMap.isEmpty()) completion.complete(null);
+            return completion.thenApply(ignored -> inverse);
+        }
+    }
+
     @ApiStatus.Experimental
     public @NotNull BatchOption getInverseOption() {
         return inverseOption;
@@ -4,6 +4,8 @@ import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.Executor;
+
 /**
  * Represents options for {@link Batch}s.
  */
@@ -13,6 +15,8 @@ public class BatchOption {
     private boolean calculateInverse = false;
     private boolean unsafeApply = false;
     private boolean sendUpdate = true;
+    private boolean sectionUpdate = false;
+    private Executor executor = Batch.BLOCK_BATCH_POOL;
 
     public BatchOption() {
     }
@@ -67,6 +71,30 @@ public class BatchOption {
         return sendUpdate;
     }
 
+    /**
+     * Gets if the batch only sends its changed blocks, per section, instead of resending the modified chunks.
+     * <p>
+     * Ignored for {@link #isFullChunk() full chunk} batches.
+     * <p>
+     * Defaults to false.
+     *
+     * @return true if the batch sends its changed blocks
+     */
+    public boolean isSectionUpdate() {
+        return sectionUpdate;
+    }
+
+    /**
+     * Gets the executor applying the batch, each chunk being a separate task.
+     * <p>
+     * Defaults to {@link Batch#BLOCK_BATCH_POOL}.
+     *
+     * @return the executor applying the batch
+     */
+    public @NotNull Executor getExecutor() {
+        return executor;
+    }
+
     /**
      * @param fullChunk true to make this batch composes the whole chunk
      * @return 'this' for chaining
@@ -109,4 +137,28 @@ public class BatchOption {
         this.sendUpdate = sendUpdate;
         return this;
     }
+
+    /**
+     * @param sectionUpdate true to only send the changed blocks
+     * @return 'this' for chaining
+     * @see #isSectionUpdate()
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public BatchOption setSectionUpdate(boolean sectionUpdate) {
+        this.sectionUpdate = sectionUpdate;
+        return this;
+    }
+
+    /**
+     * @param executor the executor applying the batch
+     * @return 'this' for chaining
+     * @see #getExecutor()
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public BatchOption setExecutor(@NotNull Executor executor) {
+        this.executor = executor;
+        return this;
+    }
 }
@@ -4,6 +4,7 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArraySet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import net.minestom.server.instance.BlockChangeJournal;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.InstanceContainer;
@@ -153,7 +154,7 @@ public class ChunkBatch implements Batch<ChunkCallback> {
         if (!this.options.isUnsafeApply()) this.awaitReady();
 
         final ChunkBatch inverse = this.options.shouldCalculateInverse() ? new ChunkBatch(options, false) : null;
-        BLOCK_BATCH_POOL.execute(() -> singleThreadFlush(instance, chunk, inverse, callback, safeCallback));
+        this.options.getExecutor().execute(() -> singleThreadFlush(instance, chunk, inverse, callback, safeCallback));
         return inverse;
     }
 
@@ -182,11 +183,12 @@ public class ChunkBatch implements Batch<ChunkCallback> {
 
             final IntSet sections = new IntArraySet();
             synchronized (blocks) {
-                for (var entry : blocks.int2ObjectEntrySet()) {
-                    final int position = entry.getIntKey();
-                    final Block block = entry.getValue();
-                    final int section = apply(chunk, position, block, inverse);
-                    sections.add(section);
+                // Written per section, the inverse receives the replaced blocks
+                synchronized (chunk) {
+                    chunk.setBlocks(blocks, inverse);
+                }
+                for (int index : blocks.keySet()) {
+                    sections.add(ChunkUtils.getChunkCoordinate(ChunkUtils.blockIndexToChunkPositionY(index)));
                 }
             }
 
@@ -197,34 +199,20 @@ public class ChunkBatch implements Batch<ChunkCallback> {
         }
     }
 
-    /**
-     * Applies a single block change given a chunk and a value in the described format.
-     *
-     * @param chunk The chunk to apply the change
-     * @param index the block position computed using {@link ChunkUtils#getBlockIndex(int, int, int)}
-     * @param block the block to place
-     * @return The chunk section which the block was placed
-     */
-    private int apply(@NotNull Chunk chunk, int index, Block block, @Nullable ChunkBatch inverse) {
-        final int x = ChunkUtils.blockIndexToChunkPositionX(index);
-        final int y = ChunkUtils.blockIndexToChunkPositionY(index);
-        final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
-        if (inverse != null) {
-            Block prevBlock = chunk.getBlock(x, y, z);
-            inverse.setBlock(x, y, z, prevBlock);
-        }
-        chunk.setBlock(x, y, z, block);
-        return ChunkUtils.getChunkCoordinate(y);
-    }
-
     /**
      * Updates the given chunk for all of its viewers, and executes the callback.
      */
     private void updateChunk(@NotNull Instance instance, Chunk chunk, IntSet updatedSections, @Nullable ChunkCallback callback, boolean safeCallback) {
         // Refresh chunk for viewers
         if (options.shouldSendUpdate()) {
-            // TODO update all sections from `updatedSections`
-            chunk.sendChunk();
+            if (!options.isFullChunk() && options.isSectionUpdate()) {
+                // Only send the changed blocks, per section
+                synchronized (blocks) {
+                    BlockChangeJournal.sendChanges(chunk, blocks);
+                }
+            } else {
+                chunk.sendChunk();
+            }
         }
 
         if (instance instanceof InstanceContainer) {
@@ -49,6 +49,53 @@ public sealed interface Block extends ProtocolObject, TagReadable, Blocks permit
     @Contract(pure = true)
     @NotNull Block withProperties(@NotNull Map<@NotNull String, @NotNull String> properties);
 
+    /**
+     * Creates a new block with the property at {@code propertyIndex} sets to the value at {@code valueIndex}.
+     * <p>
+     * Indexes are specific to the block type, and can be retrieved
+     * using {@link #propertyIndex(String)} and {@link #propertyValueIndex(int, String)}.
+     * This is a single array lookup, and should be preferred in hot paths.
+     *
+     * @param propertyIndex the property index
+     * @param valueIndex    the property value index
+     * @return a new block with its property changed
+     * @throws IllegalArgumentException if the property or value indexes are invalid
+     */
+    @Contract(pure = true)
+    @ApiStatus.Experimental
+    @NotNull Block withProperty(int propertyIndex, int valueIndex);
+
+    /**
+     * Gets the index of a property, to be used with {@link #withProperty(int, int)}.
+     *
+     * @param property the property name
+     * @return the property index, -1 if the property is not valid for this block
+     */
+    @Contract(pure = true)
+    @ApiStatus.Experimental
+    int propertyIndex(@NotNull String property);
+
+    /**
+     * Gets the index of a property value, to be used with {@link #withProperty(int, int)}.
+     *
+     * @param propertyIndex the property index
+     * @param value         the property value
+     * @return the value index, -1 if the property or value is not valid for this block
+     */
+    @Contract(pure = true)
+    @ApiStatus.Experimental
+    int propertyValueIndex(int propertyIndex, @NotNull String value);
+
+    /**
+     * Gets the index of the current value of a property.
+     *
+     * @param propertyIndex the property index
+     * @return the value index, -1 if the property index is not valid for this block
+     */
+    @Contract(pure = true)
+    @ApiStatus.Experimental
+    int getPropertyValueIndex(int propertyIndex);
+
     /**
      * Creates a new block with a tag modified.
      *
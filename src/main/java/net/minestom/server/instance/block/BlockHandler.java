@@ -63,6 +63,17 @@ public interface BlockHandler {
         return false;
     }
 
+    /**
+     * Gets the number of ticks between two {@link #tick(Tick)} calls of a {@link #isTickable() tickable} block.
+     * <p>
+     * Blocks can also schedule their next tick with {@link Instance#scheduleBlockTick(Point, int)}.
+     *
+     * @return the tick interval, at least 1
+     */
+    default int getTickInterval() {
+        return 1;
+    }
+
     default @NotNull Collection<Tag<?>> getBlockEntityTags() {
         return List.of();
     }
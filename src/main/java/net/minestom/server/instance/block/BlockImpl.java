@@ -31,6 +31,8 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
     private static final ObjectArray<PropertyType[]> PROPERTIES_TYPE = ObjectArray.singleThread();
     // Block id -> Map<PropertiesValues, Block>
     private static final ObjectArray<Map<PropertiesHolder, BlockImpl>> POSSIBLE_STATES = ObjectArray.singleThread();
+    // Block id -> property transitions, lazily computed
+    private static final StateTransitions[] TRANSITIONS;
     private static final Registry.Container<Block> CONTAINER = Registry.createContainer(Registry.Resource.BLOCKS,
             (namespace, properties) -> {
                 final int blockId = properties.getInt("id");
@@ -95,6 +97,7 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
         PROPERTIES_TYPE.trim();
         BLOCK_STATE_MAP.trim();
         POSSIBLE_STATES.trim();
+        TRANSITIONS = new StateTransitions[CONTAINER.values().size()];
     }
 
     static Block get(@NotNull String namespace) {
@@ -123,9 +126,7 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
         assert propertyTypes != null;
         final byte keyIndex = findKeyIndex(propertyTypes, property, this);
         final byte valueIndex = findValueIndex(propertyTypes[keyIndex], value, this);
-        var properties = this.propertiesArray.clone();
-        properties[keyIndex] = valueIndex;
-        return compute(properties);
+        return withState(transitions().next(stateId(), keyIndex, valueIndex));
     }
 
     @Override
@@ -133,13 +134,48 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
         if (properties.isEmpty()) return this;
         final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
         assert propertyTypes != null;
-        byte[] result = this.propertiesArray.clone();
+        final StateTransitions transitions = transitions();
+        int stateId = stateId();
         for (var entry : properties.entrySet()) {
             final byte keyIndex = findKeyIndex(propertyTypes, entry.getKey(), this);
             final byte valueIndex = findValueIndex(propertyTypes[keyIndex], entry.getValue(), this);
-            result[keyIndex] = valueIndex;
+            stateId = transitions.next(stateId, keyIndex, valueIndex);
         }
-        return compute(result);
+        return withState(stateId);
+    }
+
+    @Override
+    public @NotNull Block withProperty(int propertyIndex, int valueIndex) {
+        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
+        if (propertyIndex < 0 || propertyIndex >= propertyTypes.length) {
+            throw new IllegalArgumentException("Property index " + propertyIndex + " is not valid for block " + this);
+        }
+        if (valueIndex < 0 || valueIndex >= propertyTypes[propertyIndex].values().size()) {
+            throw new IllegalArgumentException("Property " + propertyTypes[propertyIndex].key() + " value index " + valueIndex + " is not valid for block " + this);
+        }
+        return withState(transitions().next(stateId(), propertyIndex, valueIndex));
+    }
+
+    @Override
+    public int propertyIndex(@NotNull String property) {
+        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
+        for (int i = 0; i < propertyTypes.length; i++) {
+            if (propertyTypes[i].key().equals(property)) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int propertyValueIndex(int propertyIndex, @NotNull String value) {
+        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
+        if (propertyIndex < 0 || propertyIndex >= propertyTypes.length) return -1;
+        return propertyTypes[propertyIndex].values().indexOf(value);
+    }
+
+    @Override
+    public int getPropertyValueIndex(int propertyIndex) {
+        if (propertyIndex < 0 || propertyIndex >= propertiesArray.length) return -1;
+        return propertiesArray[propertyIndex];
     }
 
     @Override
@@ -164,16 +200,18 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
     public @Unmodifiable @NotNull Map<String, String> properties() {
         final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
         assert propertyTypes != null;
-        final int length = propertyTypes.length;
-        if (length == 0) return Map.of();
-        String[] keys = new String[length];
-        String[] values = new String[length];
-        for (int i = 0; i < length; i++) {
-            var property = propertyTypes[i];
-            keys[i] = property.key();
-            values[i] = property.values().get(propertiesArray[i]);
+        if (propertyTypes.length == 0) return Map.of();
+        return transitions().properties(stateId());
+    }
+
+    @Override
+    public String getProperty(@NotNull String property) {
+        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
+        for (int i = 0; i < propertyTypes.length; i++) {
+            final PropertyType propertyType = propertyTypes[i];
+            if (propertyType.key().equals(property)) return propertyType.values().get(propertiesArray[i]);
         }
-        return Object2ObjectMaps.unmodifiable(new Object2ObjectArrayMap<>(keys, values, length));
+        return null;
     }
 
     @Override
@@ -207,13 +245,24 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
         return Objects.hash(stateId(), nbt, handler);
     }
 
-    private Block compute(byte[] properties) {
-        if (Arrays.equals(propertiesArray, properties)) return this;
-        final BlockImpl block = possibleProperties().get(new PropertiesHolder(properties));
+    private Block withState(int stateId) {
+        if (stateId == stateId()) return this;
+        final BlockImpl block = (BlockImpl) getState(stateId);
         assert block != null;
         return nbt == null && handler == null ? block : new BlockImpl(block.registry(), block.propertiesArray, nbt, handler);
     }
 
+    private StateTransitions transitions() {
+        final int id = id();
+        StateTransitions transitions = TRANSITIONS[id];
+        if (transitions == null) {
+            // Benign race, the table is immutable and always computed identically
+            transitions = StateTransitions.compute(PROPERTIES_TYPE.get(id), possibleProperties().values());
+            TRANSITIONS[id] = transitions;
+        }
+        return transitions;
+    }
+
     private static byte findKeyIndex(PropertyType[] properties, String key, BlockImpl block) {
         for (byte i = 0; i < properties.length; i++) {
             if (properties[i].key().equals(key)) return i;
@@ -239,6 +288,85 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
     private record PropertyType(String key, List<String> values) {
     }
 
+    /**
+     * Dense table of the state reached when changing a property, for all the states of a block.
+     * <p>
+     * Layout: {@code table[(stateId - firstState) * stride + valueOffsets[propertyIndex] + valueIndex]},
+     * where {@code stride} is the total number of property values.
+     */
+    private static final class StateTransitions {
+        private final int firstState;
+        private final int stride;
+        private final int[] valueOffsets;
+        private final int[] table;
+        // State id - first state -> properties map
+        private final Map<String, String>[] properties;
+
+        private StateTransitions(int firstState, int stride, int[] valueOffsets, int[] table,
+                                 Map<String, String>[] properties) {
+            this.firstState = firstState;
+            this.stride = stride;
+            this.valueOffsets = valueOffsets;
+            this.table = table;
+            this.properties = properties;
+        }
+
+        static StateTransitions compute(PropertyType[] propertyTypes, Collection<BlockImpl> states) {
+            int firstState = Integer.MAX_VALUE, lastState = Integer.MIN_VALUE;
+            for (BlockImpl state : states) {
+                firstState = Math.min(firstState, state.stateId());
+                lastState = Math.max(lastState, state.stateId());
+            }
+            final int[] valueOffsets = new int[propertyTypes.length];
+            int stride = 0;
+            for (int i = 0; i < propertyTypes.length; i++) {
+                valueOffsets[i] = stride;
+                stride += propertyTypes[i].values().size();
+            }
+            // States are contiguous in vanilla, holes are simply left unused
+            final int stateCount = lastState - firstState + 1;
+            final int[] table = new int[stateCount * stride];
+            @SuppressWarnings("unchecked") final Map<String, String>[] propertiesMaps = new Map[stateCount];
+            final Map<PropertiesHolder, BlockImpl> possibleStates = POSSIBLE_STATES.get(states.iterator().next().id());
+            for (BlockImpl state : states) {
+                propertiesMaps[state.stateId() - firstState] = propertiesMap(propertyTypes, state.propertiesArray);
+                final int base = (state.stateId() - firstState) * stride;
+                for (int k = 0; k < propertyTypes.length; k++) {
+                    final int valueCount = propertyTypes[k].values().size();
+                    for (int v = 0; v < valueCount; v++) {
+                        byte[] properties = state.propertiesArray.clone();
+                        properties[k] = (byte) v;
+                        final BlockImpl next = possibleStates.get(new PropertiesHolder(properties));
+                        assert next != null;
+                        table[base + valueOffsets[k] + v] = next.stateId();
+                    }
+                }
+            }
+            return new StateTransitions(firstState, stride, valueOffsets, table, propertiesMaps);
+        }
+
+        int next(int stateId, int propertyIndex, int valueIndex) {
+            return table[(stateId - firstState) * stride + valueOffsets[propertyIndex] + valueIndex];
+        }
+
+        Map<String, String> properties(int stateId) {
+            return properties[stateId - firstState];
+        }
+
+        private static Map<String, String> propertiesMap(PropertyType[] propertyTypes, byte[] propertiesArray) {
+            final int length = propertyTypes.length;
+            if (length == 0) return Map.of();
+            String[] keys = new String[length];
+            String[] values = new String[length];
+            for (int i = 0; i < length; i++) {
+                var property = propertyTypes[i];
+                keys[i] = property.key();
+                values[i] = property.values().get(propertiesArray[i]);
+            }
+            return Object2ObjectMaps.unmodifiable(new Object2ObjectArrayMap<>(keys, values, length));
+        }
+    }
+
     private static final class PropertiesHolder {
         private final byte[] properties;
         private final int hashCode;
@@ -164,7 +164,7 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
             final int newValue = function.apply(x, y, z, value);
             final int index = arrayIndex.getPlain();
             arrayIndex.setPlain(index + 1);
-            cache[index] = newValue != value ? getPaletteIndex(newValue) : value;
+            cache[index] = getPaletteIndex(newValue);
             if (newValue != 0) count.setPlain(count.getPlain() + 1);
         });
         assert arrayIndex.getPlain() == maxSize();
@@ -10,9 +10,14 @@ import net.minestom.server.network.packet.server.play.OpenWindowPacket;
 import net.minestom.server.network.packet.server.play.SetSlotPacket;
 import net.minestom.server.network.packet.server.play.WindowItemsPacket;
 import net.minestom.server.network.packet.server.play.WindowPropertyPacket;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.PropertyUtils;
 import net.minestom.server.utils.inventory.PlayerInventoryUtils;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -28,6 +33,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public non-sealed class Inventory extends AbstractInventory implements Viewable {
     private static final AtomicInteger ID_COUNTER = new AtomicInteger();
+    private static final boolean BATCHED_UPDATES = PropertyUtils.getBoolean("minestom.inventory.batched-updates", false);
 
     // the id of this inventory
     private final byte id;
@@ -43,6 +49,9 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
     private final Set<Player> unmodifiableViewers = Collections.unmodifiableSet(viewers);
     // (player -> cursor item) map, used by the click listeners
     private final ConcurrentHashMap<Player, ItemStack> cursorPlayersItem = new ConcurrentHashMap<>();
+    // Slots modified since the last flush, only used with batched updates
+    private final BitSet dirtySlots = new BitSet();
+    private boolean batchedUpdates = BATCHED_UPDATES;
 
     public Inventory(@NotNull InventoryType inventoryType, @NotNull Component title) {
         super(inventoryType.getSize());
@@ -113,8 +122,75 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
      * Refreshes the inventory for all viewers.
      */
     @Override
-    public void update() {
-        this.viewers.forEach(p -> p.sendPacket(createNewWindowItemsPacket(p)));
+    public synchronized void update() {
+        this.dirtySlots.clear();
+        // Viewers without cursor item share the same packet
+        final List<ItemStack> items = List.of(getItemStacks());
+        List<Player> emptyCursorViewers = new ArrayList<>(viewers.size());
+        for (Player viewer : viewers) {
+            final ItemStack cursorItem = cursorPlayersItem.get(viewer);
+            if (cursorItem == null) emptyCursorViewers.add(viewer);
+            else viewer.sendPacket(new WindowItemsPacket(getWindowId(), 0, items, cursorItem));
+        }
+        if (!emptyCursorViewers.isEmpty()) {
+            PacketUtils.sendGroupedPacket(emptyCursorViewers, new WindowItemsPacket(getWindowId(), 0, items, ItemStack.AIR));
+        }
+    }
+
+    /**
+     * Gets if slot changes are sent once per tick instead of immediately.
+     *
+     * @return true if slot updates are batched
+     * @see #setBatchedUpdates(boolean)
+     */
+    @ApiStatus.Experimental
+    public synchronized boolean hasBatchedUpdates() {
+        return batchedUpdates;
+    }
+
+    /**
+     * Changes if slot changes are sent once per tick, as a full window update or as slot packets
+     * depending on which is smaller, instead of immediately.
+     * <p>
+     * Defaults to the {@code minestom.inventory.batched-updates} system property.
+     *
+     * @param batchedUpdates true to batch slot updates
+     */
+    @ApiStatus.Experimental
+    public synchronized void setBatchedUpdates(boolean batchedUpdates) {
+        if (!batchedUpdates) flush();
+        this.batchedUpdates = batchedUpdates;
+    }
+
+    /**
+     * Sends the slots modified since the last call to the viewers.
+     * <p>
+     * Only relevant with {@link #setBatchedUpdates(boolean) batched updates}, called every tick by the viewers.
+     */
+    @ApiStatus.Internal
+    public synchronized void flush() {
+        final BitSet dirtySlots = this.dirtySlots;
+        if (dirtySlots.isEmpty()) return;
+        if (viewers.isEmpty()) {
+            // The next viewer receives the whole window
+            dirtySlots.clear();
+            return;
+        }
+        // Sizes are computed without encoding the packets
+        List<SetSlotPacket> slotPackets = new ArrayList<>(dirtySlots.cardinality());
+        int slotsSize = 0;
+        for (int slot = dirtySlots.nextSetBit(0); slot >= 0; slot = dirtySlots.nextSetBit(slot + 1)) {
+            final SetSlotPacket slotPacket = new SetSlotPacket(getWindowId(), 0, (short) slot, itemStacks[slot]);
+            slotPackets.add(slotPacket);
+            slotsSize += PacketUtils.framedSize(slotPacket);
+        }
+        final int windowSize = PacketUtils.framedSize(new WindowItemsPacket(getWindowId(), 0, List.of(itemStacks), ItemStack.AIR));
+        if (slotsSize >= windowSize) {
+            update();
+            return;
+        }
+        for (SetSlotPacket slotPacket : slotPackets) sendPacketToViewers(slotPacket);
+        dirtySlots.clear();
     }
 
     /**
@@ -193,7 +269,12 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
     @Override
     protected void UNSAFE_itemInsert(int slot, @NotNull ItemStack itemStack, boolean sendPacket) {
         itemStacks[slot] = itemStack;
-        if (sendPacket) sendPacketToViewers(new SetSlotPacket(getWindowId(), 0, (short) slot, itemStack));
+        if (!sendPacket) return;
+        if (batchedUpdates) {
+            this.dirtySlots.set(slot);
+        } else {
+            sendPacketToViewers(new SetSlotPacket(getWindowId(), 0, (short) slot, itemStack));
+        }
     }
 
     private @NotNull WindowItemsPacket createNewWindowItemsPacket(Player player) {
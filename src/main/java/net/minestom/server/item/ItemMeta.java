@@ -17,7 +17,7 @@ import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 import java.util.*;
 import java.util.function.Consumer;
 
-public sealed interface ItemMeta extends TagReadable, NetworkBuffer.Writer
+public sealed interface ItemMeta extends TagReadable, NetworkBuffer.SizedWriter
         permits ItemMetaImpl {
 
     @Override
@@ -10,12 +10,23 @@ import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 import java.util.Objects;
 import java.util.function.Consumer;
 
-import static net.minestom.server.network.NetworkBuffer.BYTE;
-import static net.minestom.server.network.NetworkBuffer.NBT;
+import static net.minestom.server.network.NetworkBuffer.*;
 
-record ItemMetaImpl(TagHandler tagHandler) implements ItemMeta {
+final class ItemMetaImpl implements ItemMeta {
     static final ItemMetaImpl EMPTY = new ItemMetaImpl(TagHandler.newHandler());
 
+    private final TagHandler tagHandler;
+    // Encoded form, computed lazily as the handler is never modified
+    private volatile byte[] networkBytes;
+
+    ItemMetaImpl(TagHandler tagHandler) {
+        this.tagHandler = tagHandler;
+    }
+
+    TagHandler tagHandler() {
+        return tagHandler;
+    }
+
     @Override
     public <T> @UnknownNullability T getTag(@NotNull Tag<T> tag) {
         return tagHandler.getTag(tag);
@@ -40,12 +51,22 @@ record ItemMetaImpl(TagHandler tagHandler) implements ItemMeta {
 
     @Override
     public void write(@NotNull NetworkBuffer writer) {
-        final NBTCompound nbt = toNBT();
-        if (nbt.isEmpty()) {
-            writer.write(BYTE, (byte) 0);
-            return;
+        writer.write(RAW_BYTES, networkBytes());
+    }
+
+    @Override
+    public int sizeOf() {
+        return networkBytes().length;
+    }
+
+    private byte[] networkBytes() {
+        byte[] bytes = this.networkBytes;
+        if (bytes == null) {
+            final NBTCompound nbt = toNBT();
+            this.networkBytes = bytes = nbt.isEmpty() ? new byte[1] :
+                    NetworkBuffer.makeArray(buffer -> buffer.write(NBT, nbt));
         }
-        writer.write(NBT, nbt);
+        return bytes;
     }
 
     @Override
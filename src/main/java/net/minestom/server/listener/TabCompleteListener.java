@@ -35,6 +35,6 @@ public class TabCompleteListener {
             // it works as intended :)
             text = text + '\00';
         }
-        return MinecraftServer.getCommandManager().parseCommand(commandSender, text).suggestion(commandSender);
+        return MinecraftServer.getCommandManager().parseSuggestion(commandSender, text).suggestion(commandSender);
     }
 }
@@ -0,0 +1,169 @@
+package net.minestom.server.network;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Encodes components to their JSON network form.
+ * <p>
+ * Text and translatable components without hover events are written directly, without building the Gson tree.
+ * Other components fall back to {@link GsonComponentSerializer}.
+ * Encoded components are cached by identity, making components kept as fields (names, titles, boss bars) free to resend.
+ */
+final class ComponentJson {
+    private static final int CACHE_SIZE = Integer.getInteger("minestom.component-cache-size", 1024);
+    private static final TextDecoration[] DECORATIONS = TextDecoration.values();
+
+    private static final Cache<Component, byte[]> CACHE = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(CACHE_SIZE)
+            .build();
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+
+    private ComponentJson() {
+    }
+
+    /**
+     * Gets the UTF-8 JSON of a component.
+     *
+     * @param component the component to encode
+     * @return the UTF-8 JSON, must not be modified
+     */
+    static byte @NotNull [] encode(@NotNull Component component) {
+        byte[] bytes = CACHE.getIfPresent(component);
+        if (bytes == null) {
+            bytes = serialize(component).getBytes(StandardCharsets.UTF_8);
+            CACHE.put(component, bytes);
+        }
+        return bytes;
+    }
+
+    static @NotNull String serialize(@NotNull Component component) {
+        if (!supported(component)) return GsonComponentSerializer.gson().serialize(component);
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        writeComponent(builder, component);
+        return builder.toString();
+    }
+
+    private static boolean supported(Component component) {
+        if (component.style().hoverEvent() != null) return false;
+        if (component instanceof TranslatableComponent translatable) {
+            for (Component arg : translatable.args()) {
+                if (!supported(arg)) return false;
+            }
+        } else if (!(component instanceof TextComponent)) {
+            return false;
+        }
+        for (Component child : component.children()) {
+            if (!supported(child)) return false;
+        }
+        return true;
+    }
+
+    private static void writeComponent(StringBuilder builder, Component component) {
+        // Same field order as the Gson serializer
+        if (component instanceof TextComponent text) {
+            builder.append("{\"text\":");
+            writeString(builder, text.content());
+        } else {
+            final TranslatableComponent translatable = (TranslatableComponent) component;
+            builder.append("{\"translate\":");
+            writeString(builder, translatable.key());
+            final List<Component> args = translatable.args();
+            if (!args.isEmpty()) {
+                builder.append(",\"with\":");
+                writeComponents(builder, args);
+            }
+        }
+        final List<Component> children = component.children();
+        if (!children.isEmpty()) {
+            builder.append(",\"extra\":");
+            writeComponents(builder, children);
+        }
+        if (component.hasStyling()) writeStyle(builder, component.style());
+        builder.append('}');
+    }
+
+    private static void writeComponents(StringBuilder builder, List<Component> components) {
+        builder.append('[');
+        for (int i = 0; i < components.size(); i++) {
+            if (i > 0) builder.append(',');
+            writeComponent(builder, components.get(i));
+        }
+        builder.append(']');
+    }
+
+    private static void writeStyle(StringBuilder builder, Style style) {
+        final Key font = style.font();
+        if (font != null) {
+            builder.append(",\"font\":");
+            writeString(builder, font.asString());
+        }
+        final TextColor color = style.color();
+        if (color != null) {
+            builder.append(",\"color\":");
+            writeString(builder, color instanceof NamedTextColor named ?
+                    NamedTextColor.NAMES.key(named) : color.asHexString());
+        }
+        for (TextDecoration decoration : DECORATIONS) {
+            final TextDecoration.State state = style.decoration(decoration);
+            if (state == TextDecoration.State.NOT_SET) continue;
+            builder.append(",\"").append(TextDecoration.NAMES.key(decoration)).append("\":")
+                    .append(state == TextDecoration.State.TRUE);
+        }
+        final String insertion = style.insertion();
+        if (insertion != null) {
+            builder.append(",\"insertion\":");
+            writeString(builder, insertion);
+        }
+        final ClickEvent clickEvent = style.clickEvent();
+        if (clickEvent != null) {
+            builder.append(",\"clickEvent\":{\"action\":");
+            writeString(builder, ClickEvent.Action.NAMES.key(clickEvent.action()));
+            builder.append(",\"value\":");
+            writeString(builder, clickEvent.value());
+            builder.append('}');
+        }
+    }
+
+    private static void writeString(StringBuilder builder, String value) {
+        builder.append('"');
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20 || c == 0x2028 || c == 0x2029) {
+                        builder.append("\\u");
+                        final String hex = Integer.toHexString(c);
+                        for (int j = hex.length(); j < 4; j++) builder.append('0');
+                        builder.append(hex);
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        builder.append('"');
+    }
+}
@@ -304,7 +304,9 @@ public final class NetworkBuffer {
         if (!resizable) return;
         if (nioBuffer.capacity() < writeIndex + length) {
             final int newCapacity = Math.max(nioBuffer.capacity() * 2, writeIndex + length);
-            ByteBuffer newBuffer = ByteBuffer.allocateDirect(newCapacity);
+            // Keep heap buffers on the heap, they are only copied to arrays
+            ByteBuffer newBuffer = nioBuffer.isDirect() ?
+                    ByteBuffer.allocateDirect(newCapacity) : ByteBuffer.allocate(newCapacity);
             nioBuffer.position(0);
             newBuffer.put(nioBuffer);
             nioBuffer = newBuffer.clear();
@@ -320,11 +322,57 @@ public final class NetworkBuffer {
         void write(@NotNull NetworkBuffer writer);
     }
 
+    /**
+     * A {@link Writer} knowing how many bytes it writes, so that buffers can be sized without encoding it first.
+     */
+    public interface SizedWriter extends Writer {
+        /**
+         * Gets the exact number of bytes written by {@link #write(NetworkBuffer)}.
+         *
+         * @return the encoded size, in bytes
+         */
+        int sizeOf();
+    }
+
     public static byte[] makeArray(@NotNull Consumer<@NotNull NetworkBuffer> writing) {
-        NetworkBuffer writer = new NetworkBuffer();
+        // Heap buffer, only copied to an array
+        NetworkBuffer writer = new NetworkBuffer(ByteBuffer.allocate(256));
         writing.accept(writer);
         byte[] bytes = new byte[writer.writeIndex];
         writer.copyTo(0, bytes, 0, bytes.length);
         return bytes;
     }
+
+    /**
+     * Gets the number of bytes written for a {@link #VAR_INT}.
+     *
+     * @param value the value
+     * @return the encoded size, between 1 and 5 bytes
+     */
+    public static int varIntSize(int value) {
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * Gets the number of bytes written for a {@link #VAR_LONG}.
+     *
+     * @param value the value
+     * @return the encoded size, between 1 and 10 bytes
+     */
+    public static int varLongSize(long value) {
+        return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * Gets the number of bytes written for an {@link #ITEM}.
+     * <p>
+     * The meta of the item is encoded once and cached, it is then reused when the item is written.
+     *
+     * @param itemStack the item
+     * @return the encoded size
+     */
+    public static int itemSize(@NotNull ItemStack itemStack) {
+        if (itemStack.isAir()) return 1;
+        return 1 + varIntSize(itemStack.material().id()) + 1 + itemStack.meta().sizeOf();
+    }
 }
@@ -19,6 +19,7 @@ import org.jglrxavpok.hephaistos.nbt.*;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
@@ -162,12 +163,14 @@ final class NetworkBufferTypes {
                 }
             });
     static final TypeImpl<Long> VAR_LONG = new TypeImpl<>(Long.class,
-            (buffer, value) -> {
+            (buffer, boxed) -> {
+                // Unboxed once, the shift below would otherwise box on each iteration
+                long value = boxed;
                 buffer.ensureSize(10);
                 int size = 0;
                 while (true) {
                     if ((value & ~((long) SEGMENT_BITS)) == 0) {
-                        buffer.nioBuffer.put(buffer.writeIndex() + size, (byte) value.intValue());
+                        buffer.nioBuffer.put(buffer.writeIndex() + size, (byte) value);
                         return size + 1;
                     }
                     buffer.nioBuffer.put(buffer.writeIndex() + size, (byte) (value & SEGMENT_BITS | CONTINUE_BIT));
@@ -211,6 +214,16 @@ final class NetworkBufferTypes {
             });
     static final TypeImpl<String> STRING = new TypeImpl<>(String.class,
             (buffer, value) -> {
+                final int length = value.length();
+                if (isAscii(value, length)) {
+                    // Byte length is known, write the characters directly without encoding the string
+                    buffer.write(VAR_INT, length);
+                    buffer.ensureSize(length);
+                    final ByteBuffer nio = buffer.nioBuffer;
+                    final int index = buffer.writeIndex();
+                    for (int i = 0; i < length; i++) nio.put(index + i, (byte) value.charAt(i));
+                    return length;
+                }
                 final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
                 buffer.write(VAR_INT, bytes.length);
                 buffer.write(RAW_BYTES, bytes);
@@ -232,6 +245,13 @@ final class NetworkBufferTypes {
                         public void write(int b) {
                             buffer.write(BYTE, (byte) b);
                         }
+
+                        @Override
+                        public void write(byte @NotNull [] b, int off, int len) {
+                            buffer.ensureSize(len);
+                            buffer.nioBuffer.put(buffer.writeIndex(), b, off, len);
+                            buffer.writeIndex += len;
+                        }
                     }, CompressedProcesser.NONE);
                     buffer.nbtWriter = nbtWriter;
                 }
@@ -284,8 +304,9 @@ final class NetworkBufferTypes {
             });
     static final TypeImpl<Component> COMPONENT = new TypeImpl<>(Component.class,
             (buffer, value) -> {
-                final String json = GsonComponentSerializer.gson().serialize(value);
-                buffer.write(STRING, json);
+                final byte[] json = ComponentJson.encode(value);
+                buffer.write(VAR_INT, json.length);
+                buffer.write(RAW_BYTES, json);
                 return -1;
             },
             buffer -> {
@@ -312,7 +333,7 @@ final class NetworkBufferTypes {
                 buffer.write(BOOLEAN, true);
                 buffer.write(VAR_INT, value.material().id());
                 buffer.write(BYTE, (byte) value.amount());
-                buffer.write(NBT, value.meta().toNBT());
+                buffer.write(value.meta());
                 return -1;
             },
             buffer -> {
@@ -601,6 +622,13 @@ final class NetworkBufferTypes {
                 return new float[]{x, y, z, w};
             });
 
+    private static boolean isAscii(String value, int length) {
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) return false;
+        }
+        return true;
+    }
+
     record TypeImpl<T>(@NotNull Class<T> type,
                        @NotNull TypeWriter<T> writer,
                        @NotNull TypeReader<T> reader) implements NetworkBuffer.Type<T> {
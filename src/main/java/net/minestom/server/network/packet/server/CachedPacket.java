@@ -1,36 +1,82 @@
 package net.minestom.server.network.packet.server;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import net.minestom.server.utils.PacketUtils;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.ref.SoftReference;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.util.function.Supplier;
 
 /**
  * Represents a packet that is only computed when required (either due to memory demand or invalidated data)
  * <p>
- * The cache is stored in a {@link SoftReference} and is invalidated when {@link #invalidate()} is called.
+ * The framed packet is held by the cached packet itself, and accounted in a store shared by all cached packets,
+ * bounded by the size of their buffers ({@code minestom.cached-packet.budget} system property, in bytes).
+ * The cache is invalidated when {@link #invalidate()} is called, or dropped once evicted from the store.
+ * The store never runs the packet supplier, which can therefore lock (e.g. the chunk of a chunk packet).
  * <p>
  * Packet supplier must be thread-safe.
  */
 @ApiStatus.Internal
 public final class CachedPacket implements SendablePacket {
+    private static final long BUDGET = Long.getLong("minestom.cached-packet.budget", 64 * 1024 * 1024);
+    private static final VarHandle PACKET;
+
+    static {
+        try {
+            PACKET = MethodHandles.lookup().findVarHandle(CachedPacket.class, "packet", FramedPacket.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final Cache<CachedPacket, FramedPacket> STORE = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumWeight(BUDGET)
+            .weigher((CachedPacket key, FramedPacket value) -> value.body().capacity())
+            .evictionListener((CachedPacket key, FramedPacket value, RemovalCause cause) -> {
+                if (key != null) PACKET.compareAndSet(key, value, null);
+            })
+            .recordStats()
+            .build();
+
     private final Supplier<ServerPacket> packetSupplier;
-    private volatile SoftReference<FramedPacket> packet;
+    private final boolean stored;
+    private volatile FramedPacket packet;
 
-    public CachedPacket(@NotNull Supplier<@NotNull ServerPacket> packetSupplier) {
+    private CachedPacket(@NotNull Supplier<@NotNull ServerPacket> packetSupplier, boolean stored) {
         this.packetSupplier = packetSupplier;
+        this.stored = stored;
+    }
+
+    public CachedPacket(@NotNull Supplier<@NotNull ServerPacket> packetSupplier) {
+        this(packetSupplier, true);
     }
 
     public CachedPacket(@NotNull ServerPacket packet) {
         this(() -> packet);
     }
 
+    /**
+     * Creates a cached packet meant to be sent once to multiple connections, not accounted in the shared store.
+     *
+     * @param packet the packet
+     * @return a cached packet framing {@code packet} once
+     */
+    public static @NotNull CachedPacket transientPacket(@NotNull ServerPacket packet) {
+        return new CachedPacket(() -> packet, false);
+    }
+
     public void invalidate() {
         this.packet = null;
+        if (stored) STORE.invalidate(this);
     }
 
     public @NotNull ServerPacket packet() {
@@ -46,16 +92,37 @@ public final class CachedPacket implements SendablePacket {
     private @Nullable FramedPacket updatedCache() {
         if (!PacketUtils.CACHED_PACKET)
             return null;
-        SoftReference<FramedPacket> ref = packet;
-        FramedPacket cache;
-        if (ref == null || (cache = ref.get()) == null) {
+        FramedPacket cache = packet;
+        // Record the access for the eviction policy
+        if (stored) STORE.getIfPresent(this);
+        if (cache == null) {
+            // Computed outside the store, the supplier may take locks held by invalidating threads
             cache = PacketUtils.allocateTrimmedPacket(packetSupplier.get());
-            this.packet = new SoftReference<>(cache);
+            this.packet = cache;
+            if (stored) STORE.put(this, cache);
         }
         return cache;
     }
 
     public boolean isValid() {
-        return packet != null && packet.get() != null;
+        return packet != null;
+    }
+
+    /**
+     * Gets the statistics (hits, misses, evictions) of the framed packets store.
+     *
+     * @return the store statistics
+     */
+    public static @NotNull CacheStats storeStats() {
+        return STORE.stats();
+    }
+
+    /**
+     * Gets the number of bytes currently held by the framed packets store.
+     *
+     * @return the store size in bytes
+     */
+    public static long storeSize() {
+        return STORE.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
     }
 }
@@ -9,8 +9,9 @@ import org.jetbrains.annotations.NotNull;
 
 import static net.minestom.server.network.NetworkBuffer.BLOCK_POSITION;
 import static net.minestom.server.network.NetworkBuffer.VAR_INT;
+import static net.minestom.server.network.NetworkBuffer.varIntSize;
 
-public record BlockChangePacket(@NotNull Point blockPosition, int blockStateId) implements ServerPacket {
+public record BlockChangePacket(@NotNull Point blockPosition, int blockStateId) implements ServerPacket, NetworkBuffer.SizedWriter {
     public BlockChangePacket(@NotNull Point blockPosition, @NotNull Block block) {
         this(blockPosition, block.stateId());
     }
@@ -25,6 +26,11 @@ public record BlockChangePacket(@NotNull Point blockPosition, int blockStateId)
         writer.write(VAR_INT, blockStateId);
     }
 
+    @Override
+    public int sizeOf() {
+        return 8 + varIntSize(blockStateId);
+    }
+
     @Override
     public int getId() {
         return ServerPacketIdentifier.BLOCK_CHANGE;
@@ -7,8 +7,9 @@ import org.jetbrains.annotations.NotNull;
 
 import static net.minestom.server.network.NetworkBuffer.BYTE;
 import static net.minestom.server.network.NetworkBuffer.VAR_INT;
+import static net.minestom.server.network.NetworkBuffer.varIntSize;
 
-public record EntityHeadLookPacket(int entityId, float yaw) implements ServerPacket {
+public record EntityHeadLookPacket(int entityId, float yaw) implements ServerPacket, NetworkBuffer.SizedWriter {
     public EntityHeadLookPacket(@NotNull NetworkBuffer reader) {
         this(reader.read(VAR_INT), (reader.read(BYTE) * 360f) / 256f);
     }
@@ -19,6 +20,11 @@ public record EntityHeadLookPacket(int entityId, float yaw) implements ServerPac
         writer.write(BYTE, (byte) (this.yaw * 256 / 360));
     }
 
+    @Override
+    public int sizeOf() {
+        return varIntSize(entityId) + 1;
+    }
+
     @Override
     public int getId() {
         return ServerPacketIdentifier.ENTITY_HEAD_LOOK;
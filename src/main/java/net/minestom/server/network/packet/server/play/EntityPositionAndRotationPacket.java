@@ -9,7 +9,7 @@ import org.jetbrains.annotations.NotNull;
 import static net.minestom.server.network.NetworkBuffer.*;
 
 public record EntityPositionAndRotationPacket(int entityId, short deltaX, short deltaY, short deltaZ,
-                                              float yaw, float pitch, boolean onGround) implements ServerPacket {
+                                              float yaw, float pitch, boolean onGround) implements ServerPacket, NetworkBuffer.SizedWriter {
     public EntityPositionAndRotationPacket(@NotNull NetworkBuffer reader) {
         this(reader.read(VAR_INT), reader.read(SHORT), reader.read(SHORT), reader.read(SHORT),
                 reader.read(BYTE) * 360f / 256f, reader.read(BYTE) * 360f / 256f, reader.read(BOOLEAN));
@@ -26,6 +26,11 @@ public record EntityPositionAndRotationPacket(int entityId, short deltaX, short
         writer.write(BOOLEAN, onGround);
     }
 
+    @Override
+    public int sizeOf() {
+        return varIntSize(entityId) + 3 * 2 + 2 + 1;
+    }
+
     @Override
     public int getId() {
         return ServerPacketIdentifier.ENTITY_POSITION_AND_ROTATION;
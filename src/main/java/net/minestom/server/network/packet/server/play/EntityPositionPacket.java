@@ -9,7 +9,7 @@ import org.jetbrains.annotations.NotNull;
 import static net.minestom.server.network.NetworkBuffer.*;
 
 public record EntityPositionPacket(int entityId, short deltaX, short deltaY, short deltaZ, boolean onGround)
-        implements ServerPacket {
+        implements ServerPacket, NetworkBuffer.SizedWriter {
 
     public EntityPositionPacket(@NotNull NetworkBuffer reader) {
         this(reader.read(VAR_INT), reader.read(SHORT), reader.read(SHORT), reader.read(SHORT), reader.read(BOOLEAN));
@@ -24,6 +24,11 @@ public record EntityPositionPacket(int entityId, short deltaX, short deltaY, sho
         writer.write(BOOLEAN, onGround);
     }
 
+    @Override
+    public int sizeOf() {
+        return varIntSize(entityId) + 3 * 2 + 1;
+    }
+
     @Override
     public int getId() {
         return ServerPacketIdentifier.ENTITY_POSITION;
@@ -7,7 +7,7 @@ import org.jetbrains.annotations.NotNull;
 
 import static net.minestom.server.network.NetworkBuffer.*;
 
-public record EntityRotationPacket(int entityId, float yaw, float pitch, boolean onGround) implements ServerPacket {
+public record EntityRotationPacket(int entityId, float yaw, float pitch, boolean onGround) implements ServerPacket, NetworkBuffer.SizedWriter {
     public EntityRotationPacket(@NotNull NetworkBuffer reader) {
         this(reader.read(VAR_INT), reader.read(BYTE) * 360f / 256f, reader.read(BYTE) * 360f / 256f, reader.read(BOOLEAN));
     }
@@ -20,6 +20,11 @@ public record EntityRotationPacket(int entityId, float yaw, float pitch, boolean
         writer.write(BOOLEAN, onGround);
     }
 
+    @Override
+    public int sizeOf() {
+        return varIntSize(entityId) + 2 + 1;
+    }
+
     @Override
     public int getId() {
         return ServerPacketIdentifier.ENTITY_ROTATION;
@@ -8,7 +8,7 @@ import org.jetbrains.annotations.NotNull;
 
 import static net.minestom.server.network.NetworkBuffer.*;
 
-public record EntityTeleportPacket(int entityId, Pos position, boolean onGround) implements ServerPacket {
+public record EntityTeleportPacket(int entityId, Pos position, boolean onGround) implements ServerPacket, NetworkBuffer.SizedWriter {
     public EntityTeleportPacket(@NotNull NetworkBuffer reader) {
         this(reader.read(VAR_INT), new Pos(reader.read(DOUBLE), reader.read(DOUBLE), reader.read(DOUBLE),
                         reader.read(BYTE) * 360f / 256f, reader.read(BYTE) * 360f / 256f),
@@ -26,6 +26,11 @@ public record EntityTeleportPacket(int entityId, Pos position, boolean onGround)
         writer.write(BOOLEAN, onGround);
     }
 
+    @Override
+    public int sizeOf() {
+        return varIntSize(entityId) + 3 * 8 + 2 + 1;
+    }
+
     @Override
     public int getId() {
         return ServerPacketIdentifier.ENTITY_TELEPORT;
@@ -9,9 +9,10 @@ import org.jetbrains.annotations.NotNull;
 
 import static net.minestom.server.network.NetworkBuffer.SHORT;
 import static net.minestom.server.network.NetworkBuffer.VAR_INT;
+import static net.minestom.server.network.NetworkBuffer.varIntSize;
 
 public record EntityVelocityPacket(int entityId, short velocityX, short velocityY,
-                                   short velocityZ) implements ServerPacket {
+                                   short velocityZ) implements ServerPacket, NetworkBuffer.SizedWriter {
     public EntityVelocityPacket(@NotNull NetworkBuffer reader) {
         this(reader.read(VAR_INT), reader.read(SHORT), reader.read(SHORT), reader.read(SHORT));
     }
@@ -33,6 +34,11 @@ public record EntityVelocityPacket(int entityId, short velocityX, short velocity
         writer.write(SHORT, velocityZ);
     }
 
+    @Override
+    public int sizeOf() {
+        return varIntSize(entityId) + 3 * 2;
+    }
+
     @Override
     public int getId() {
         return ServerPacketIdentifier.ENTITY_VELOCITY;
@@ -7,7 +7,7 @@ import org.jetbrains.annotations.NotNull;
 
 import static net.minestom.server.network.NetworkBuffer.*;
 
-public record MultiBlockChangePacket(long chunkSectionPosition, long[] blocks) implements ServerPacket {
+public record MultiBlockChangePacket(long chunkSectionPosition, long[] blocks) implements ServerPacket, NetworkBuffer.SizedWriter {
     public MultiBlockChangePacket(int chunkX, int section, int chunkZ,
                                   long[] blocks) {
         this(((long) (chunkX & 0x3FFFFF) << 42) | (section & 0xFFFFF) | ((long) (chunkZ & 0x3FFFFF) << 20), blocks);
@@ -23,6 +23,13 @@ public record MultiBlockChangePacket(long chunkSectionPosition, long[] blocks) i
         writer.write(VAR_LONG_ARRAY, blocks);
     }
 
+    @Override
+    public int sizeOf() {
+        int size = 8 + varIntSize(blocks.length);
+        for (long block : blocks) size += varLongSize(block);
+        return size;
+    }
+
     @Override
     public int getId() {
         return ServerPacketIdentifier.MULTI_BLOCK_CHANGE;
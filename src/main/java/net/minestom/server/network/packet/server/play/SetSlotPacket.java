@@ -16,7 +16,7 @@ import java.util.function.UnaryOperator;
 import static net.minestom.server.network.NetworkBuffer.*;
 
 public record SetSlotPacket(byte windowId, int stateId, short slot,
-                            @NotNull ItemStack itemStack) implements ComponentHoldingServerPacket {
+                            @NotNull ItemStack itemStack) implements ComponentHoldingServerPacket, NetworkBuffer.SizedWriter {
     public SetSlotPacket(@NotNull NetworkBuffer reader) {
         this(reader.read(BYTE), reader.read(VAR_INT), reader.read(SHORT),
                 reader.read(ITEM));
@@ -30,6 +30,11 @@ public record SetSlotPacket(byte windowId, int stateId, short slot,
         writer.write(ITEM, itemStack);
     }
 
+    @Override
+    public int sizeOf() {
+        return 1 + varIntSize(stateId) + 2 + itemSize(itemStack);
+    }
+
     @Override
     public int getId() {
         return ServerPacketIdentifier.SET_SLOT;
@@ -16,7 +16,7 @@ import java.util.function.UnaryOperator;
 import static net.minestom.server.network.NetworkBuffer.*;
 
 public record WindowItemsPacket(byte windowId, int stateId, @NotNull List<ItemStack> items,
-                                @NotNull ItemStack carriedItem) implements ComponentHoldingServerPacket {
+                                @NotNull ItemStack carriedItem) implements ComponentHoldingServerPacket, NetworkBuffer.SizedWriter {
     public WindowItemsPacket {
         items = List.copyOf(items);
     }
@@ -34,6 +34,13 @@ public record WindowItemsPacket(byte windowId, int stateId, @NotNull List<ItemSt
         writer.write(ITEM, carriedItem);
     }
 
+    @Override
+    public int sizeOf() {
+        int size = 1 + varIntSize(stateId) + varIntSize(items.size());
+        for (ItemStack item : items) size += itemSize(item);
+        return size + itemSize(carriedItem);
+    }
+
     @Override
     public int getId() {
         return ServerPacketIdentifier.WINDOW_ITEMS;
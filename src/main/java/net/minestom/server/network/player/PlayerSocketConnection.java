@@ -71,7 +71,9 @@ public class PlayerSocketConnection extends PlayerConnection {
     private final Map<Integer, String> pluginRequestMap = new ConcurrentHashMap<>();
 
     private final List<BinaryBuffer> waitingBuffers = new ArrayList<>();
-    private final AtomicReference<BinaryBuffer> tickBuffer = new AtomicReference<>(POOL.get());
+    // Buffer of the packets written since the last flush, released to the pool once empty
+    private final AtomicReference<BinaryBuffer> tickBuffer = new AtomicReference<>();
+    private boolean closed;
     private BinaryBuffer cacheBuffer;
 
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
@@ -201,6 +203,7 @@ public class PlayerSocketConnection extends PlayerConnection {
         super.disconnect();
         this.workerQueue.relaxedOffer(() -> {
             this.worker.disconnect(this, channel);
+            this.closed = true;
             final BinaryBuffer tick = tickBuffer.getAndSet(null);
             if (tick != null) POOL.add(tick);
             for (BinaryBuffer buffer : waitingBuffers) POOL.add(buffer);
@@ -394,8 +397,11 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     private void writeBufferSync0(@NotNull ByteBuffer buffer, int index, int length) {
         BinaryBuffer localBuffer = tickBuffer.getPlain();
-        if (localBuffer == null)
-            return; // Socket is closed
+        if (localBuffer == null) {
+            if (closed) return; // Socket is closed
+            localBuffer = POOL.get();
+            this.tickBuffer.setPlain(localBuffer);
+        }
         final int capacity = localBuffer.capacity();
         if (length <= capacity) {
             if (!localBuffer.canWrite(length)) localBuffer = updateLocalBuffer();
@@ -418,8 +424,12 @@ public class PlayerSocketConnection extends PlayerConnection {
         if (waitingBuffers.isEmpty()) {
             BinaryBuffer localBuffer = tickBuffer.getPlain();
             if (localBuffer == null)
-                return; // Socket is closed
-            localBuffer.writeChannel(channel);
+                return; // Nothing written since the last flush, or socket closed
+            if (localBuffer.writeChannel(channel)) {
+                // Fully written, do not pin the buffer while the connection is idle
+                this.tickBuffer.setPlain(null);
+                POOL.add(localBuffer);
+            }
         } else {
             // Write as much as possible from the waiting list
             Iterator<BinaryBuffer> iterator = waitingBuffers.iterator();
@@ -11,6 +11,7 @@ import net.minestom.server.entity.EquipmentSlot;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.item.Material;
 import net.minestom.server.utils.NamespaceID;
+import net.minestom.server.utils.PropertyUtils;
 import net.minestom.server.utils.collection.ObjectArray;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.ApiStatus;
@@ -28,6 +29,8 @@ import java.util.function.Supplier;
  * Use at your own risk.
  */
 public final class Registry {
+    private static final boolean USE_SNAPSHOTS = PropertyUtils.getBoolean("minestom.registry.snapshots", true);
+
     @ApiStatus.Internal
     public static BlockEntry block(String namespace, @NotNull Properties main) {
         return new BlockEntry(namespace, main, null);
@@ -55,6 +58,19 @@ public final class Registry {
 
     @ApiStatus.Internal
     public static Map<String, Map<String, Object>> load(Resource resource) {
+        if (USE_SNAPSHOTS) {
+            // Binary snapshot generated from the same JSON, if present
+            try {
+                final Map<String, Map<String, Object>> snapshot = RegistrySnapshot.load(resource.name);
+                if (snapshot != null) return snapshot;
+            } catch (IOException e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+        return loadJson(resource);
+    }
+
+    static Map<String, Map<String, Object>> loadJson(Resource resource) {
         Map<String, Map<String, Object>> map = new HashMap<>();
         try (InputStream resourceStream = Registry.class.getClassLoader().getResourceAsStream(resource.name)) {
             Check.notNull(resourceStream, "Resource {0} does not exist!", resource);
@@ -150,7 +166,7 @@ public final class Registry {
         GAMEPLAY_TAGS("tags/gameplay_tags.json"),
         ITEM_TAGS("tags/item_tags.json");
 
-        private final String name;
+        final String name;
 
         Resource(String name) {
             this.name = name;
@@ -0,0 +1,224 @@
+package net.minestom.server.registry;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.CRC32;
+
+/**
+ * Reads the binary registry snapshots generated by {@code RegistrySnapshotGenerator} in the code generators.
+ * <p>
+ * The snapshot mirrors the JSON structure (with the same value types as {@link Registry#load(Registry.Resource)}),
+ * but strings are shared through a table and entries are only decoded once accessed.
+ * <p>
+ * The header holds the length and CRC32 of the JSON it was generated from,
+ * a snapshot not matching the JSON resource on the classpath is ignored.
+ */
+final class RegistrySnapshot {
+    // Must be kept in sync with RegistrySnapshotGenerator
+    private static final int MAGIC = 0x4D524547; // MREG
+    private static final byte VERSION = 2;
+    private static final byte TAG_MAP = 0;
+    private static final byte TAG_LIST = 1;
+    private static final byte TAG_STRING = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_TRUE = 5;
+    private static final byte TAG_FALSE = 6;
+
+    private RegistrySnapshot() {
+    }
+
+    static @NotNull String path(@NotNull String resourceName) {
+        return "registry/" + resourceName.replace(".json", ".bin");
+    }
+
+    /**
+     * Loads the snapshot of a registry resource.
+     *
+     * @param resourceName the JSON resource name
+     * @return the registry entries, null if the snapshot is not present or outdated
+     */
+    static @Nullable Map<String, Map<String, Object>> load(@NotNull String resourceName) throws IOException {
+        final ClassLoader classLoader = Registry.class.getClassLoader();
+        final byte[] snapshot;
+        try (InputStream stream = classLoader.getResourceAsStream(path(resourceName))) {
+            if (stream == null) return null;
+            snapshot = stream.readAllBytes();
+        }
+        final Source source;
+        try (InputStream stream = classLoader.getResourceAsStream(resourceName)) {
+            if (stream == null) return null;
+            source = Source.of(stream);
+        }
+        return read(ByteBuffer.wrap(snapshot), source);
+    }
+
+    /**
+     * Reads a snapshot.
+     *
+     * @param buffer the snapshot
+     * @param source the JSON the snapshot must have been generated from
+     * @return the registry entries, null if the snapshot is invalid or generated from another JSON
+     */
+    static @Nullable Map<String, Map<String, Object>> read(@NotNull ByteBuffer buffer, @NotNull Source source) {
+        if (buffer.remaining() < 13 || buffer.getInt() != MAGIC || buffer.get() != VERSION) return null;
+        if (buffer.getInt() != source.length() || buffer.getInt() != source.checksum()) return null;
+        final String[] strings = new String[readVarInt(buffer)];
+        for (int i = 0; i < strings.length; i++) {
+            final int length = readVarInt(buffer);
+            strings[i] = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        }
+        final int entryCount = readVarInt(buffer);
+        final String[] names = new String[entryCount];
+        final int[] offsets = new int[entryCount];
+        for (int i = 0; i < entryCount; i++) {
+            names[i] = strings[readVarInt(buffer)];
+            final int length = readVarInt(buffer);
+            offsets[i] = buffer.position();
+            buffer.position(buffer.position() + length);
+        }
+        return new LazyEntries(buffer, strings, names, offsets);
+    }
+
+    /**
+     * Identifies the JSON a snapshot was generated from.
+     *
+     * @param length   the JSON length in bytes
+     * @param checksum the CRC32 of the JSON bytes
+     */
+    record Source(int length, int checksum) {
+        static @NotNull Source of(@NotNull InputStream stream) throws IOException {
+            CRC32 crc = new CRC32();
+            byte[] bytes = new byte[8192];
+            long length = 0;
+            int read;
+            while ((read = stream.read(bytes)) != -1) {
+                crc.update(bytes, 0, read);
+                length += read;
+            }
+            return new Source((int) length, (int) crc.getValue());
+        }
+    }
+
+    private static Object readValue(ByteBuffer buffer, String[] strings) {
+        final byte tag = buffer.get();
+        return switch (tag) {
+            case TAG_MAP -> {
+                final int size = readVarInt(buffer);
+                // Same map type as the JSON loader, iteration order is relied upon
+                Map<String, Object> map = new HashMap<>();
+                for (int i = 0; i < size; i++) map.put(strings[readVarInt(buffer)], readValue(buffer, strings));
+                yield map;
+            }
+            case TAG_LIST -> {
+                final int size = readVarInt(buffer);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) list.add(readValue(buffer, strings));
+                yield list;
+            }
+            case TAG_STRING -> strings[readVarInt(buffer)];
+            case TAG_LONG -> buffer.getLong();
+            case TAG_DOUBLE -> buffer.getDouble();
+            case TAG_TRUE -> true;
+            case TAG_FALSE -> false;
+            default -> throw new IllegalStateException("Invalid registry snapshot tag: " + tag);
+        };
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            final byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+    }
+
+    private static final class LazyEntries extends AbstractMap<String, Map<String, Object>> {
+        private final ByteBuffer buffer;
+        private final String[] strings;
+        private final String[] names;
+        private final int[] offsets;
+        private final AtomicReferenceArray<Map<String, Object>> values;
+        // Same map type and insertion order as the JSON loader, for an identical iteration order
+        private final Map<String, Integer> indexes;
+
+        LazyEntries(ByteBuffer buffer, String[] strings, String[] names, int[] offsets) {
+            this.buffer = buffer;
+            this.strings = strings;
+            this.names = names;
+            this.offsets = offsets;
+            this.values = new AtomicReferenceArray<>(names.length);
+            this.indexes = new HashMap<>();
+            for (int i = 0; i < names.length; i++) indexes.put(names[i], i);
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> value(int index) {
+            Map<String, Object> value = values.get(index);
+            if (value == null) {
+                // Absolute position, each decode uses its own view
+                final ByteBuffer view = buffer.duplicate().position(offsets[index]);
+                value = (Map<String, Object>) readValue(view, strings);
+                if (!values.compareAndSet(index, null, value)) value = values.get(index);
+            }
+            return value;
+        }
+
+        @Override
+        public Map<String, Object> get(Object key) {
+            final Integer index = indexes.get(key);
+            return index != null ? value(index) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexes.containsKey(key);
+        }
+
+        @Override
+        public @NotNull Set<String> keySet() {
+            return Collections.unmodifiableSet(indexes.keySet());
+        }
+
+        @Override
+        public int size() {
+            return names.length;
+        }
+
+        @Override
+        public @NotNull Set<Entry<String, Map<String, Object>>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public @NotNull Iterator<Entry<String, Map<String, Object>>> iterator() {
+                    final Iterator<Entry<String, Integer>> iterator = indexes.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, Map<String, Object>> next() {
+                            final Entry<String, Integer> entry = iterator.next();
+                            return new SimpleImmutableEntry<>(entry.getKey(), value(entry.getValue()));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return names.length;
+                }
+            };
+        }
+    }
+}
@@ -12,8 +12,11 @@ import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -140,7 +143,7 @@ public class Sidebar implements Scoreboard {
      */
     public void updateLineContent(@NotNull String id, @NotNull Component content) {
         final ScoreboardLine scoreboardLine = getLine(id);
-        if (scoreboardLine != null) {
+        if (scoreboardLine != null && !scoreboardLine.getContent().equals(content)) {
             scoreboardLine.refreshContent(content);
             sendPacketToViewers(scoreboardLine.sidebarTeam.updatePrefix(content));
         }
@@ -154,12 +157,46 @@ public class Sidebar implements Scoreboard {
      */
     public void updateLineScore(@NotNull String id, int score) {
         final ScoreboardLine scoreboardLine = getLine(id);
-        if (scoreboardLine != null) {
+        if (scoreboardLine != null && scoreboardLine.line != score) {
             scoreboardLine.line = score;
             sendPacketToViewers(scoreboardLine.getLineScoreUpdatePacket(objectiveName, score));
         }
     }
 
+    /**
+     * Sets the lines of the sidebar, only sending the differences with the current lines to the viewers.
+     * <p>
+     * Lines are matched by identifier: missing lines are removed, new lines are created,
+     * and the content/score of the others is only updated if it changed.
+     * Meant to be called with the desired state whenever it may have changed (e.g. every tick).
+     *
+     * @param lines the desired lines
+     * @throws IllegalStateException    if there are more lines than the sidebar can take
+     * @throws IllegalArgumentException if two lines have the same id
+     */
+    public void setLines(@NotNull Collection<@NotNull ScoreboardLine> lines) {
+        Check.stateCondition(lines.size() > MAX_LINES_COUNT, "You cannot have more than " + MAX_LINES_COUNT + "  lines");
+        Map<String, ScoreboardLine> desiredLines = new HashMap<>(lines.size());
+        for (ScoreboardLine line : lines) {
+            Check.argCondition(desiredLines.put(line.id, line) != null,
+                    "You cannot add two ScoreboardLine with the same id");
+        }
+        synchronized (this.lines) {
+            // Remove first, to make place for the new lines
+            for (ScoreboardLine line : this.lines) {
+                if (!desiredLines.containsKey(line.id)) removeLine(line.id);
+            }
+            for (ScoreboardLine line : desiredLines.values()) {
+                if (getLine(line.id) == null) {
+                    createLine(line);
+                } else {
+                    updateLineContent(line.id, line.content);
+                    updateLineScore(line.id, line.line);
+                }
+            }
+        }
+    }
+
     /**
      * Gets a {@link ScoreboardLine} through the given identifier
      *
@@ -68,6 +68,11 @@ public class Team implements PacketGroupingAudience {
      * Shown after the names of the player who belong to this team.
      */
     private Component suffix;
+    /**
+     * The last sent update, used to avoid sending the same state again.
+     * Cleared when the state is sent through a creation packet, which may include silent changes.
+     */
+    private TeamsPacket.UpdateTeamAction lastUpdate;
 
     private final Set<Player> playerMembers = ConcurrentHashMap.newKeySet();
     private boolean isPlayerMembersUpToDate;
@@ -371,6 +376,8 @@ public class Team implements PacketGroupingAudience {
      * @return the packet to add the team
      */
     public @NotNull TeamsPacket createTeamsCreationPacket() {
+        // Receivers may now differ from the last update
+        this.lastUpdate = null;
         final var info = new TeamsPacket.CreateTeamAction(teamDisplayName, friendlyFlags,
                 nameTagVisibility, collisionRule, teamColor, prefix, suffix, members);
         return new TeamsPacket(teamName, info);
@@ -463,6 +470,8 @@ public class Team implements PacketGroupingAudience {
     public void sendUpdatePacket() {
         final var info = new TeamsPacket.UpdateTeamAction(teamDisplayName, friendlyFlags,
                 nameTagVisibility, collisionRule, teamColor, prefix, suffix);
+        if (info.equals(lastUpdate)) return;
+        this.lastUpdate = info;
         PacketUtils.broadcastPacket(new TeamsPacket(teamName, info));
     }
 
@@ -2,6 +2,7 @@ package net.minestom.server.timer;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
@@ -15,6 +16,19 @@ public sealed interface Scheduler permits SchedulerImpl, SchedulerManager {
         return new SchedulerImpl();
     }
 
+    /**
+     * Creates a scheduler running its {@link ExecutionType#ASYNC} tasks in {@code asyncExecutor}.
+     * <p>
+     * The default executor is the common {@link java.util.concurrent.ForkJoinPool},
+     * or a dedicated pool when the {@code minestom.scheduler.async-pool-size} property is set.
+     *
+     * @param asyncExecutor the executor of async tasks
+     * @return a new scheduler
+     */
+    static @NotNull Scheduler newScheduler(@NotNull Executor asyncExecutor) {
+        return new SchedulerImpl(asyncExecutor);
+    }
+
     /**
      * Process scheduled tasks based on time to increase scheduling precision.
      * <p>
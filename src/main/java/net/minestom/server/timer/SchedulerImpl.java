@@ -1,17 +1,12 @@
 package net.minestom.server.timer;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
 import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 final class SchedulerImpl implements Scheduler {
@@ -21,13 +16,25 @@ final class SchedulerImpl implements Scheduler {
         thread.setDaemon(true);
         return thread;
     });
-    private static final ForkJoinPool EXECUTOR = ForkJoinPool.commonPool();
+    private static final int ASYNC_POOL_SIZE = Integer.getInteger("minestom.scheduler.async-pool-size", 0);
+    static final Executor DEFAULT_EXECUTOR = ASYNC_POOL_SIZE > 0 ? new ForkJoinPool(ASYNC_POOL_SIZE) : ForkJoinPool.commonPool();
 
+    private final Executor executor;
     private final MpscUnboundedArrayQueue<TaskImpl> taskQueue = new MpscUnboundedArrayQueue<>(64);
+    private final Consumer<TaskImpl> expiredConsumer = taskQueue::relaxedOffer;
     // Tasks scheduled on a certain tick
-    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickTaskQueue = new Int2ObjectAVLTreeMap<>();
+    private final TimingWheel tickWheel = new TimingWheel(0);
+    // Sync tasks scheduled after a duration, in milliseconds since the scheduler creation
+    private final long originNanos = System.nanoTime();
+    private final TimingWheel durationWheel = new TimingWheel(0);
 
-    private int tickState;
+    SchedulerImpl(@NotNull Executor executor) {
+        this.executor = executor;
+    }
+
+    SchedulerImpl() {
+        this(DEFAULT_EXECUTOR);
+    }
 
     @Override
     public void process() {
@@ -41,12 +48,9 @@ final class SchedulerImpl implements Scheduler {
 
     private void processTick(int tickDelta) {
         synchronized (this) {
-            this.tickState += tickDelta;
-            int tickToProcess;
-            while (!tickTaskQueue.isEmpty() && (tickToProcess = tickTaskQueue.firstIntKey()) <= tickState) {
-                final List<TaskImpl> tickScheduledTasks = tickTaskQueue.remove(tickToProcess);
-                if (tickScheduledTasks != null) tickScheduledTasks.forEach(taskQueue::relaxedOffer);
-            }
+            // Expired tasks are moved to the execution queue
+            this.tickWheel.advance(tickWheel.current() + tickDelta, expiredConsumer);
+            this.durationWheel.advance(currentMillis(), expiredConsumer);
         }
         // Run all tasks lock-free, either in the current thread or pool
         if (!taskQueue.isEmpty()) {
@@ -54,7 +58,7 @@ final class SchedulerImpl implements Scheduler {
                 if (!task.isAlive()) return;
                 switch (task.executionType()) {
                     case SYNC -> handleTask(task);
-                    case ASYNC -> EXECUTOR.submit(() -> handleTask(task));
+                    case ASYNC -> executor.execute(() -> handleTask(task));
                 }
             });
         }
@@ -69,6 +73,14 @@ final class SchedulerImpl implements Scheduler {
         return taskRef;
     }
 
+    void cancelTask(TaskImpl task) {
+        // Free the wheel slot immediately instead of waiting for the task to expire
+        if (task.wheel == null) return;
+        synchronized (this) {
+            if (!tickWheel.remove(task)) durationWheel.remove(task);
+        }
+    }
+
     void unparkTask(TaskImpl task) {
         if (task.tryUnpark())
             this.taskQueue.relaxedOffer(task);
@@ -79,7 +91,7 @@ final class SchedulerImpl implements Scheduler {
         // By either adding the task to the execution queue or submitting it to the pool
         switch (task.executionType()) {
             case SYNC -> taskQueue.offer(task);
-            case ASYNC -> EXECUTOR.submit(() -> {
+            case ASYNC -> executor.execute(() -> {
                 if (!task.isAlive()) {
                     return;
                 }
@@ -92,11 +104,18 @@ final class SchedulerImpl implements Scheduler {
         final TaskSchedule schedule = task.task().get();
         if (schedule instanceof TaskScheduleImpl.DurationSchedule durationSchedule) {
             final Duration duration = durationSchedule.duration();
-            SCHEDULER.schedule(() -> safeExecute(task), duration.toMillis(), TimeUnit.MILLISECONDS);
+            if (task.executionType() == ExecutionType.SYNC) {
+                // Sync tasks can only run during processing, wake them up all at once
+                synchronized (this) {
+                    // Round up, the task must not run before its duration
+                    this.durationWheel.schedule(task, currentMillis() + duration.toMillis() + 1);
+                }
+            } else {
+                SCHEDULER.schedule(() -> safeExecute(task), duration.toMillis(), TimeUnit.MILLISECONDS);
+            }
         } else if (schedule instanceof TaskScheduleImpl.TickSchedule tickSchedule) {
             synchronized (this) {
-                final int target = tickState + tickSchedule.tick();
-                this.tickTaskQueue.computeIfAbsent(target, i -> new ArrayList<>()).add(task);
+                this.tickWheel.schedule(task, tickWheel.current() + tickSchedule.tick());
             }
         } else if (schedule instanceof TaskScheduleImpl.FutureSchedule futureSchedule) {
             futureSchedule.future().thenRun(() -> safeExecute(task));
@@ -108,4 +127,8 @@ final class SchedulerImpl implements Scheduler {
             this.taskQueue.relaxedOffer(task);
         }
     }
+
+    private long currentMillis() {
+        return (System.nanoTime() - originNanos) / 1_000_000;
+    }
 }
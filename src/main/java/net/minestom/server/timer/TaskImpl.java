@@ -26,6 +26,12 @@ final class TaskImpl implements Task {
     volatile boolean alive;
     volatile boolean parked;
 
+    // Timing wheel links, guarded by the owner scheduler
+    TimingWheel wheel;
+    TaskImpl wheelPrev, wheelNext;
+    long wheelTarget;
+    int wheelSlot;
+
     TaskImpl(int id,
              @NotNull Supplier<TaskSchedule> task,
              @NotNull ExecutionType executionType,
@@ -54,6 +60,7 @@ final class TaskImpl implements Task {
     @Override
     public void cancel() {
         this.alive = false;
+        this.owner.cancelTask(this);
     }
 
     @Override
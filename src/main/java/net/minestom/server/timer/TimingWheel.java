@@ -0,0 +1,162 @@
+package net.minestom.server.timer;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel storing {@link TaskImpl} in intrusive doubly linked lists,
+ * allowing O(1) scheduling and removal.
+ * <p>
+ * The first level has one slot per time unit, each next level slot covers a full rotation of the previous level.
+ * Tasks further than the last level are kept in an overflow list, re-dispatched at each last level rotation.
+ * <p>
+ * Not thread-safe, must be guarded by the owner.
+ */
+final class TimingWheel {
+    private static final int LEVEL0_BITS = 8;
+    private static final int LEVEL_BITS = 6;
+    private static final int LEVELS = 4;
+    private static final int LEVEL0_SIZE = 1 << LEVEL0_BITS;
+    private static final int LEVEL_SIZE = 1 << LEVEL_BITS;
+    private static final int LEVEL_MASK = LEVEL_SIZE - 1;
+
+    private static final int OVERFLOW_SLOT = LEVEL0_SIZE + (LEVELS - 1) * LEVEL_SIZE;
+    private static final int DUE_SLOT = OVERFLOW_SLOT + 1;
+
+    private final TaskImpl[] heads = new TaskImpl[DUE_SLOT + 1];
+    private long current;
+    private int size;
+
+    TimingWheel(long current) {
+        this.current = current;
+    }
+
+    long current() {
+        return current;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Schedules a task to expire once the wheel reaches {@code target}.
+     * A target in the past expires during the next {@link #advance(long, Consumer)}.
+     */
+    void schedule(TaskImpl task, long target) {
+        assert task.wheel == null : "Task is already scheduled";
+        task.wheel = this;
+        task.wheelTarget = target;
+        link(task, slot(target));
+        this.size++;
+    }
+
+    /**
+     * Removes a task from the wheel.
+     *
+     * @return true if the task was scheduled in this wheel
+     */
+    boolean remove(TaskImpl task) {
+        if (task.wheel != this) return false;
+        unlink(task);
+        this.size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel up to {@code target} (inclusive), expiring every task whose target has been reached.
+     */
+    void advance(long target, Consumer<TaskImpl> expired) {
+        expire(DUE_SLOT, expired);
+        if (size == 0) {
+            // Nothing to cascade, jump directly
+            this.current = Math.max(current, target);
+            return;
+        }
+        while (current < target) {
+            final long time = ++this.current;
+            if ((time & (LEVEL0_SIZE - 1)) == 0) {
+                cascade(time, 1);
+                // Cascaded tasks targeting this exact time
+                expire(DUE_SLOT, expired);
+            }
+            expire((int) (time & (LEVEL0_SIZE - 1)), expired);
+            if (size == 0) {
+                this.current = target;
+                break;
+            }
+        }
+    }
+
+    private void cascade(long time, int level) {
+        final int shift = LEVEL0_BITS + (level - 1) * LEVEL_BITS;
+        final int index = (int) ((time >>> shift) & LEVEL_MASK);
+        if (index == 0) {
+            // Rotation completed, re-dispatch the next level first
+            if (level < LEVELS - 1) {
+                cascade(time, level + 1);
+            } else {
+                redispatch(OVERFLOW_SLOT);
+            }
+        }
+        redispatch(LEVEL0_SIZE + (level - 1) * LEVEL_SIZE + index);
+    }
+
+    private void redispatch(int slot) {
+        TaskImpl task = heads[slot];
+        heads[slot] = null;
+        while (task != null) {
+            final TaskImpl next = task.wheelNext;
+            task.wheelNext = null;
+            task.wheelPrev = null;
+            link(task, slot(task.wheelTarget));
+            task = next;
+        }
+    }
+
+    private void expire(int slot, Consumer<TaskImpl> expired) {
+        TaskImpl task = heads[slot];
+        if (task == null) return;
+        heads[slot] = null;
+        while (task != null) {
+            final TaskImpl next = task.wheelNext;
+            task.wheelNext = null;
+            task.wheelPrev = null;
+            task.wheel = null;
+            this.size--;
+            expired.accept(task);
+            task = next;
+        }
+    }
+
+    private int slot(long target) {
+        final long delta = target - current;
+        if (delta <= 0) return DUE_SLOT;
+        if (delta < LEVEL0_SIZE) return (int) (target & (LEVEL0_SIZE - 1));
+        for (int level = 1; level < LEVELS; level++) {
+            final int shift = LEVEL0_BITS + (level - 1) * LEVEL_BITS;
+            if (delta < 1L << (shift + LEVEL_BITS)) {
+                return LEVEL0_SIZE + (level - 1) * LEVEL_SIZE + (int) ((target >>> shift) & LEVEL_MASK);
+            }
+        }
+        return OVERFLOW_SLOT;
+    }
+
+    private void link(TaskImpl task, int slot) {
+        final TaskImpl head = heads[slot];
+        task.wheelSlot = slot;
+        task.wheelPrev = null;
+        task.wheelNext = head;
+        if (head != null) head.wheelPrev = task;
+        heads[slot] = task;
+    }
+
+    private void unlink(TaskImpl task) {
+        final TaskImpl prev = task.wheelPrev, next = task.wheelNext;
+        if (prev != null) prev.wheelNext = next;
+        else heads[task.wheelSlot] = next;
+        if (next != null) next.wheelPrev = prev;
+        task.wheelPrev = null;
+        task.wheelNext = null;
+        task.wheel = null;
+    }
+}
@@ -8,40 +8,59 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.ref.Cleaner;
-import java.lang.ref.SoftReference;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
+/**
+ * Pool of reusable objects, mostly direct buffers.
+ * <p>
+ * Objects are returned explicitly with {@link #add(Object)} (or once their owner is collected when registered)
+ * and strongly retained, at most {@code minestom.pool.max-size} of them are kept, others are left to the garbage collector.
+ * <p>
+ * Each thread first uses a small cache of {@code minestom.pool.thread-cache-size} objects
+ * before touching the shared queue. All objects of a pool are interchangeable, so there are no size classes.
+ */
 @ApiStatus.Internal
 @ApiStatus.Experimental
 public final class ObjectPool<T> {
     private static final int QUEUE_SIZE = 32_768;
+    private static final int MAX_POOLED = Integer.getInteger("minestom.pool.max-size", 256);
+    private static final int THREAD_CACHE_SIZE = Integer.getInteger("minestom.pool.thread-cache-size", 2);
     private static final int BUFFER_SIZE = Integer.getInteger("minestom.pooled-buffer-size", 262_143);
 
     public static final ObjectPool<BinaryBuffer> BUFFER_POOL = new ObjectPool<>(() -> BinaryBuffer.ofSize(BUFFER_SIZE), BinaryBuffer::clear);
     public static final ObjectPool<ByteBuffer> PACKET_POOL = new ObjectPool<>(() -> ByteBuffer.allocateDirect(Server.MAX_PACKET_SIZE), ByteBuffer::clear);
 
     private final Cleaner cleaner = Cleaner.create();
-    private final MessagePassingQueue<SoftReference<T>> pool = new MpmcUnboundedXaddArrayQueue<>(QUEUE_SIZE);
+    private final MessagePassingQueue<T> pool = new MpmcUnboundedXaddArrayQueue<>(QUEUE_SIZE);
+    private final ThreadLocal<ArrayDeque<T>> threadCache = ThreadLocal.withInitial(() -> new ArrayDeque<>(THREAD_CACHE_SIZE));
     private final Supplier<T> supplier;
     private final UnaryOperator<T> sanitizer;
 
+    private final LongAdder allocations = new LongAdder();
+    private final LongAdder reuses = new LongAdder();
+    private final LongAdder discards = new LongAdder();
+
     ObjectPool(Supplier<T> supplier, UnaryOperator<T> sanitizer) {
         this.supplier = supplier;
         this.sanitizer = sanitizer;
     }
 
     public @NotNull T get() {
-        T result;
-        SoftReference<T> ref;
-        while ((ref = pool.poll()) != null) {
-            if ((result = ref.get()) != null) return result;
+        T result = threadCache.get().pollLast();
+        if (result == null) result = pool.poll();
+        if (result == null) {
+            this.allocations.increment();
+            return supplier.get();
         }
-        return supplier.get();
+        this.reuses.increment();
+        return result;
     }
 
     public @NotNull T getAndRegister(@NotNull Object ref) {
@@ -52,15 +71,51 @@ public final class ObjectPool<T> {
 
     public void add(@NotNull T object) {
         object = sanitizer.apply(object);
-        this.pool.offer(new SoftReference<>(object));
+        final ArrayDeque<T> cache = threadCache.get();
+        if (cache.size() < THREAD_CACHE_SIZE) {
+            cache.addLast(object);
+        } else {
+            offer(object);
+        }
+    }
+
+    private void addShared(@NotNull T object) {
+        // Used by the cleaner thread, which never reuses its cache
+        offer(sanitizer.apply(object));
+    }
+
+    private void offer(@NotNull T object) {
+        if (pool.size() < MAX_POOLED) {
+            this.pool.offer(object);
+        } else {
+            this.discards.increment();
+        }
     }
 
+    /**
+     * Clears the shared pool and the cache of the calling thread.
+     */
     public void clear() {
+        this.threadCache.get().clear();
         this.pool.clear();
     }
 
+    /**
+     * Gets the number of objects available to the calling thread.
+     *
+     * @return the number of objects in the shared pool and the thread cache
+     */
     public int count() {
-        return pool.size();
+        return threadCache.get().size() + pool.size();
+    }
+
+    /**
+     * Gets the allocation statistics of this pool.
+     *
+     * @return the pool statistics
+     */
+    public @NotNull Statistics statistics() {
+        return new Statistics(allocations.sum(), reuses.sum(), discards.sum(), count());
     }
 
     public void register(@NotNull Object ref, @NotNull AtomicReference<T> objectRef) {
@@ -88,17 +143,28 @@ public final class ObjectPool<T> {
         }
     }
 
+    /**
+     * Statistics of a pool.
+     *
+     * @param allocations the number of objects created because the pool was empty
+     * @param reuses      the number of objects retrieved from the pool
+     * @param discards    the number of returned objects not kept because the pool was full
+     * @param pooled      the number of objects currently available to the calling thread
+     */
+    public record Statistics(long allocations, long reuses, long discards, int pooled) {
+    }
+
     private record BufferRefCleaner<T>(ObjectPool<T> pool, AtomicReference<T> objectRef) implements Runnable {
         @Override
         public void run() {
-            this.pool.add(objectRef.get());
+            this.pool.addShared(objectRef.get());
         }
     }
 
     private record BufferCleaner<T>(ObjectPool<T> pool, T object) implements Runnable {
         @Override
         public void run() {
-            this.pool.add(object);
+            this.pool.addShared(object);
         }
     }
 
@@ -106,7 +172,7 @@ public final class ObjectPool<T> {
         @Override
         public void run() {
             for (T buffer : objects) {
-                this.pool.add(buffer);
+                this.pool.addShared(buffer);
             }
         }
     }
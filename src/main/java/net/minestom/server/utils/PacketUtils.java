@@ -28,7 +28,10 @@ import org.jetbrains.annotations.Nullable;
 
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
@@ -101,13 +104,42 @@ public final class PacketUtils {
      */
     public static void sendGroupedPacket(@NotNull Collection<Player> players, @NotNull ServerPacket packet,
                                          @NotNull Predicate<Player> predicate) {
-        final var sendablePacket = shouldUseCachePacket(packet) ? new CachedPacket(packet) : packet;
+        if (GROUPED_PACKET && shouldTranslate(packet)) {
+            sendTranslatedPacket(players, (ComponentHoldingServerPacket) packet, predicate);
+            return;
+        }
+        final var sendablePacket = shouldUseCachePacket(packet) ? CachedPacket.transientPacket(packet) : packet;
 
         players.forEach(player -> {
             if (predicate.test(player)) player.sendPacket(sendablePacket);
         });
     }
 
+    /**
+     * Groups the players by locale, so that the packet is only translated and framed once per locale.
+     */
+    private static void sendTranslatedPacket(@NotNull Collection<Player> players, @NotNull ComponentHoldingServerPacket packet,
+                                             @NotNull Predicate<Player> predicate) {
+        // Very few locales are expected, a list is faster than a map
+        List<Locale> locales = new ArrayList<>(2);
+        List<CachedPacket> translatedPackets = new ArrayList<>(2);
+        for (Player player : players) {
+            if (!predicate.test(player)) continue;
+            final Locale locale = Objects.requireNonNullElseGet(player.getLocale(), MinestomAdventure::getDefaultLocale);
+            final int index = locales.indexOf(locale);
+            final CachedPacket translatedPacket;
+            if (index != -1) {
+                translatedPacket = translatedPackets.get(index);
+            } else {
+                translatedPacket = CachedPacket.transientPacket(packet.copyWithOperator(component ->
+                        MinestomAdventure.COMPONENT_TRANSLATOR.apply(component, locale)));
+                locales.add(locale);
+                translatedPackets.add(translatedPacket);
+            }
+            player.sendPacket(translatedPacket);
+        }
+    }
+
     /**
      * Checks if the {@link ServerPacket} is suitable to be wrapped into a {@link CachedPacket}.
      * Note: {@link ComponentHoldingServerPacket}s are not translated inside a {@link CachedPacket}.
@@ -121,6 +153,14 @@ public final class PacketUtils {
         return !containsTranslatableComponents(holder);
     }
 
+    /**
+     * Checks if the {@link ServerPacket} must be translated for each receiver locale.
+     */
+    static boolean shouldTranslate(final @NotNull ServerPacket packet) {
+        return MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION &&
+                packet instanceof ComponentHoldingServerPacket holder && containsTranslatableComponents(holder);
+    }
+
     private static boolean containsTranslatableComponents(final @NotNull ComponentHolder<?> holder) {
         for (final Component component : holder.components()) {
             if (isTranslatable(component)) return true;
@@ -170,6 +210,12 @@ public final class PacketUtils {
         }
         final Player exception = entity instanceof Player ? (Player) entity : null;
         ViewableStorage storage = VIEWABLE_STORAGE_MAP.get(viewable, (unused) -> new ViewableStorage());
+        if (shouldTranslate(serverPacket)) {
+            // Framed bytes are shared by all viewers, flush the previous packets to keep ordering
+            storage.process(viewable);
+            sendGroupedPacket(viewable.getViewers(), serverPacket, value -> !Objects.equals(value, exception));
+            return;
+        }
         storage.append(viewable, serverPacket, exception);
     }
 
@@ -305,8 +351,29 @@ public final class PacketUtils {
         return createFramedPacket(buffer, packet, MinecraftServer.getCompressionThreshold() > 0);
     }
 
+    /**
+     * Gets the size of the uncompressed frame of a packet, without encoding it.
+     *
+     * @param packet the packet
+     * @return the frame size, in bytes
+     */
+    @ApiStatus.Internal
+    public static <T extends ServerPacket & NetworkBuffer.SizedWriter> int framedSize(@NotNull T packet) {
+        return 3 + NetworkBuffer.varIntSize(packet.getId()) + packet.sizeOf();
+    }
+
     @ApiStatus.Internal
     public static FramedPacket allocateTrimmedPacket(@NotNull ServerPacket packet) {
+        if (packet instanceof NetworkBuffer.SizedWriter sized) {
+            final int threshold = MinecraftServer.getCompressionThreshold();
+            final int packetSize = NetworkBuffer.varIntSize(packet.getId()) + sized.sizeOf();
+            if (threshold <= 0 || packetSize < threshold) {
+                // Exact size known and no compression, encode directly into the final buffer
+                final ByteBuffer buffer = ByteBuffer.allocateDirect((threshold > 0 ? 6 : 3) + packetSize);
+                writeFramedPacket(buffer, packet, threshold > 0);
+                return new FramedPacket(packet, buffer.flip());
+            }
+        }
         try (var hold = ObjectPool.PACKET_POOL.hold()) {
             final ByteBuffer temp = PacketUtils.createFramedPacket(hold.get(), packet);
             final int size = temp.remaining();
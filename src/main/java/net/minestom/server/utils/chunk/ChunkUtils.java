@@ -288,6 +288,50 @@ public final class ChunkUtils {
         return (index >> 28) & 0xF; // 28-32 bits
     }
 
+    /**
+     * Gets the index of a block position in an instance, stored in a long.
+     * <p>
+     * Supports the X and Z coordinates of the world border and Y coordinates between -2048 and 2047.
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @return a number storing the block position
+     */
+    public static long getGlobalBlockIndex(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+    }
+
+    /**
+     * Converts a global block index to its block X.
+     *
+     * @param index an index computed from {@link #getGlobalBlockIndex(int, int, int)}
+     * @return the block X
+     */
+    public static int globalBlockIndexToPositionX(long index) {
+        return (int) (index >> 38);
+    }
+
+    /**
+     * Converts a global block index to its block Y.
+     *
+     * @param index an index computed from {@link #getGlobalBlockIndex(int, int, int)}
+     * @return the block Y
+     */
+    public static int globalBlockIndexToPositionY(long index) {
+        return (int) (index << 52 >> 52);
+    }
+
+    /**
+     * Converts a global block index to its block Z.
+     *
+     * @param index an index computed from {@link #getGlobalBlockIndex(int, int, int)}
+     * @return the block Z
+     */
+    public static int globalBlockIndexToPositionZ(long index) {
+        return (int) (index << 26 >> 38);
+    }
+
     /**
      * Converts a global coordinate value to a section coordinate
      *
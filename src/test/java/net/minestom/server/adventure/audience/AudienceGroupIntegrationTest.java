@@ -0,0 +1,62 @@
+package net.minestom.server.adventure.audience;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.server.play.ActionBarPacket;
+import net.minestom.server.permission.Permission;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class AudienceGroupIntegrationTest {
+
+    @Test
+    public void instanceGroup(Env env) {
+        var instance = env.createFlatInstance();
+        var otherInstance = env.createFlatInstance();
+        var group = AudienceGroup.create(player -> player.getInstance() == instance);
+        try {
+            var connection = env.createConnection();
+            var otherConnection = env.createConnection();
+            var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+            var otherPlayer = otherConnection.connect(otherInstance, new Pos(0, 42, 0)).join();
+            assertEquals(List.of(player), List.copyOf(group.getPlayers()));
+
+            var tracker = connection.trackIncoming(ActionBarPacket.class);
+            var otherTracker = otherConnection.trackIncoming(ActionBarPacket.class);
+            group.sendActionBar(Component.text("Hello"));
+            tracker.assertSingle(packet -> assertEquals(Component.text("Hello"), packet.text()));
+            otherTracker.assertEmpty();
+
+            // Changing instance
+            otherPlayer.setInstance(instance, new Pos(0, 42, 0)).join();
+            assertTrue(group.getPlayers().contains(otherPlayer));
+            player.setInstance(otherInstance, new Pos(0, 42, 0)).join();
+            assertEquals(List.of(otherPlayer), List.copyOf(group.getPlayers()));
+        } finally {
+            group.close();
+        }
+        assertTrue(group.getPlayers().isEmpty());
+    }
+
+    @Test
+    public void explicitUpdate(Env env) {
+        var instance = env.createFlatInstance();
+        var player = env.createPlayer(instance, new Pos(0, 42, 0));
+        var group = AudienceGroup.create(p -> p.hasPermission("group.member"));
+        try {
+            assertTrue(group.getPlayers().isEmpty());
+            player.addPermission(new Permission("group.member"));
+            assertTrue(group.getPlayers().isEmpty());
+            group.update(player);
+            assertEquals(List.of(player), List.copyOf(group.getPlayers()));
+        } finally {
+            group.close();
+        }
+    }
+}
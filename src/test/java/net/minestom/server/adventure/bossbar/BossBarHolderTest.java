@@ -0,0 +1,39 @@
+package net.minestom.server.adventure.bossbar;
+
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import net.minestom.server.network.packet.server.play.BossBarPacket;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BossBarHolderTest {
+
+    @Test
+    public void progressUpdate() {
+        var holder = new BossBarHolder(BossBar.bossBar(Component.text("Countdown"), 0.5f, BossBar.Color.RED, BossBar.Overlay.PROGRESS));
+        holder.bar.progress(0.25f);
+        holder.bar.progress(0.75f);
+        List<BossBarPacket> packets = holder.createUpdates(BossBarHolder.PROGRESS_CHANGE);
+        assertEquals(1, packets.size());
+        var action = assertInstanceOf(BossBarPacket.UpdateHealthAction.class, packets.get(0).action());
+        assertEquals(0.75f, action.health());
+    }
+
+    @Test
+    public void coalescedUpdates() {
+        var holder = new BossBarHolder(BossBar.bossBar(Component.text("Bar"), 1f, BossBar.Color.RED, BossBar.Overlay.PROGRESS));
+        holder.bar.name(Component.text("New name"));
+        holder.bar.color(BossBar.Color.BLUE);
+        holder.bar.overlay(BossBar.Overlay.NOTCHED_10);
+        List<BossBarPacket> packets = holder.createUpdates(BossBarHolder.TITLE_CHANGE | BossBarHolder.STYLE_CHANGE);
+        assertEquals(2, packets.size());
+        var title = assertInstanceOf(BossBarPacket.UpdateTitleAction.class, packets.get(0).action());
+        assertEquals(Component.text("New name"), title.title());
+        var style = assertInstanceOf(BossBarPacket.UpdateStyleAction.class, packets.get(1).action());
+        assertEquals(BossBar.Color.BLUE, style.color());
+        assertEquals(BossBar.Overlay.NOTCHED_10, style.overlay());
+    }
+}
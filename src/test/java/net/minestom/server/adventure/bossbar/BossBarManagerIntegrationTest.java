@@ -0,0 +1,77 @@
+package net.minestom.server.adventure.bossbar;
+
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.server.play.BossBarPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class BossBarManagerIntegrationTest {
+
+    @Test
+    public void immediateUpdates(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+        var manager = env.process().bossBar();
+        var bar = BossBar.bossBar(Component.text("Bar"), 1f, BossBar.Color.RED, BossBar.Overlay.PROGRESS);
+        manager.addBossBar(player, bar);
+
+        var tracker = connection.trackIncoming(BossBarPacket.class);
+        bar.progress(0.25f);
+        bar.progress(0.75f);
+        var packets = tracker.collect();
+        assertEquals(2, packets.size());
+        assertEquals(0.75f, assertInstanceOf(BossBarPacket.UpdateHealthAction.class, packets.get(1).action()).health());
+    }
+
+    @Test
+    public void batchedUpdates(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+        var manager = env.process().bossBar();
+        manager.setBatchedUpdates(true);
+        var bar = BossBar.bossBar(Component.text("Bar"), 1f, BossBar.Color.RED, BossBar.Overlay.PROGRESS);
+        manager.addBossBar(player, bar);
+
+        // Changes are only marked
+        var tracker = connection.trackIncoming(BossBarPacket.class);
+        bar.progress(0.25f);
+        bar.name(Component.text("New name"));
+        bar.progress(0.75f);
+        tracker.assertEmpty();
+
+        // One packet per changed action
+        manager.flush();
+        var packets = tracker.collect();
+        assertEquals(2, packets.size());
+        assertEquals(0.75f, assertInstanceOf(BossBarPacket.UpdateHealthAction.class, packets.get(0).action()).health());
+        assertEquals(Component.text("New name"), assertInstanceOf(BossBarPacket.UpdateTitleAction.class, packets.get(1).action()).title());
+
+        // Nothing left to send
+        tracker = connection.trackIncoming(BossBarPacket.class);
+        manager.flush();
+        tracker.assertEmpty();
+
+        // Flushed at the end of the tick
+        tracker = connection.trackIncoming(BossBarPacket.class);
+        bar.color(BossBar.Color.BLUE);
+        env.tick();
+        tracker.assertSingle(packet -> {
+            var action = assertInstanceOf(BossBarPacket.UpdateStyleAction.class, packet.action());
+            assertEquals(BossBar.Color.BLUE, action.color());
+        });
+
+        // Disabling sends the pending changes
+        tracker = connection.trackIncoming(BossBarPacket.class);
+        bar.progress(0.5f);
+        manager.setBatchedUpdates(false);
+        tracker.assertSingle(packet -> assertInstanceOf(BossBarPacket.UpdateHealthAction.class, packet.action()));
+    }
+}
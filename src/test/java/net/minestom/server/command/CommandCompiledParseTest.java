@@ -0,0 +1,86 @@
+package net.minestom.server.command;
+
+import net.minestom.server.command.builder.Command;
+import net.minestom.server.command.builder.suggestion.Suggestion;
+import net.minestom.server.command.builder.suggestion.SuggestionEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.minestom.server.command.builder.arguments.ArgumentType.Integer;
+import static net.minestom.server.command.builder.arguments.ArgumentType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandCompiledParseTest {
+
+    @Test
+    public void sameResultAsDefaultParser() {
+        var graph = Graph.merge(List.of(
+                new Command("foo", "f") {{
+                    addSyntax((sender, context) -> {}, Literal("add"), Word("name"));
+                    addSyntax((sender, context) -> {}, Word("action").from("inc", "dec"), Integer("num"));
+                    addSyntax((sender, context) -> {}, Literal("msg"), StringArray("text"));
+                }},
+                new Command("bar") {{
+                    setDefaultExecutor((sender, context) -> {});
+                    addSyntax((sender, context) -> {}, Literal("a"), Literal("b"), Literal("c"));
+                }},
+                new Command("opt") {{
+                    addSyntax((sender, context) -> {}, Word("a").setDefaultValue("A"), Word("b").setDefaultValue("B"));
+                }}
+        ));
+        final List<String> inputs = List.of("foo", "f", "foo add test", "foo add", "foo inc 5", "foo dec 5",
+                "foo inc", "foo inc a", "foo 15", "foo msg hello world", "bar", "bar a b c", "bar a b",
+                "bar a b c d", "opt", "opt x", "opt x y", "opt x y z", "unknown", "", "foo  add", "fo", "foooo");
+        final ServerSender sender = new ServerSender();
+        for (String input : inputs) {
+            final CommandParser.Result expected = CommandParser.parser().parse(sender, graph, input);
+            final CommandParser.Result actual = CommandParser.compiled().parse(sender, graph, input);
+            assertEquals(expected.getClass(), actual.getClass(), input);
+            if (expected instanceof CommandParserImpl.InternalKnownCommand known) {
+                assertEquals(known.arguments().keySet(), ((CommandParserImpl.InternalKnownCommand) actual).arguments().keySet(), input);
+            }
+        }
+    }
+
+    @Test
+    public void unknownCommandSingleton() {
+        var graph = Graph.merge(List.of(new Command("foo"), new Command("bar", "baz")));
+        final CommandParser parser = CommandParser.compiled();
+        final ServerSender sender = new ServerSender();
+        assertSame(parser.parse(sender, graph, "test"), parser.parse(sender, graph, "other test"));
+        assertInstanceOf(CommandParser.Result.UnknownCommand.class, parser.parse(sender, graph, "test"));
+    }
+
+    @Test
+    public void incrementalSuggestion() {
+        final AtomicInteger parseCount = new AtomicInteger();
+        var graph = Graph.merge(List.of(new Command("foo") {{
+            addSyntax((sender, context) -> {},
+                    Word("first").map(input -> {
+                        parseCount.incrementAndGet();
+                        return input;
+                    }),
+                    Word("second").setSuggestionCallback((sender, context, suggestion) ->
+                            suggestion.addEntry(new SuggestionEntry(context.get("first") + "!"))));
+        }}));
+        final CommandParser parser = CommandParser.compiled();
+        final ServerSender sender = new ServerSender();
+
+        Suggestion suggestion = parser.parseSuggestion(sender, graph, "foo test a").suggestion(sender);
+        assertNotNull(suggestion);
+        assertEquals(List.of(new SuggestionEntry("test!")), suggestion.getEntries());
+        assertEquals(1, parseCount.get());
+        // Same prefix, first argument is reused
+        suggestion = parser.parseSuggestion(sender, graph, "foo test ab").suggestion(sender);
+        assertNotNull(suggestion);
+        assertEquals(List.of(new SuggestionEntry("test!")), suggestion.getEntries());
+        assertEquals(1, parseCount.get());
+        // Changed prefix
+        suggestion = parser.parseSuggestion(sender, graph, "foo other ab").suggestion(sender);
+        assertNotNull(suggestion);
+        assertEquals(List.of(new SuggestionEntry("other!")), suggestion.getEntries());
+        assertEquals(2, parseCount.get());
+    }
+}
@@ -0,0 +1,79 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.tag.Tag;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class BlockAccessorIntegrationTest {
+
+    @Test
+    public void accessor(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(-1, 0).join();
+        var block = Block.CHEST.withTag(Tag.String("key"), "value");
+        instance.setBlock(-1, 50, 3, block);
+
+        var accessor = new BlockAccessor(instance);
+        assertEquals(Block.STONE.stateId(), accessor.getBlockStateId(0, 39, 0));
+        assertEquals(Block.AIR.stateId(), accessor.getBlockStateId(0, 40, 0));
+        assertEquals(Block.CHEST.stateId(), accessor.getBlockStateId(-1, 50, 3));
+        assertEquals(Block.AIR.stateId(), accessor.getBlockStateId(0, 10_000, 0));
+        assertEquals(BlockAccessor.UNLOADED, accessor.getBlockStateId(1000, 40, 1000));
+
+        assertEquals(Block.CHEST, accessor.getBlock(-1, 50, 3, Block.Getter.Condition.TYPE));
+        assertEquals(block, accessor.getBlock(-1, 50, 3));
+        assertNull(accessor.getBlock(1000, 40, 1000, Block.Getter.Condition.NONE));
+        assertThrows(NullPointerException.class, () -> accessor.getBlock(1000, 40, 1000));
+    }
+
+    @Test
+    public void accessorUnloadedChunk(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = instance.loadChunk(0, 0).join();
+        var accessor = new BlockAccessor(instance);
+        assertEquals(Block.STONE.stateId(), accessor.getBlockStateId(0, 0, 0));
+        instance.unloadChunk(chunk);
+        assertEquals(BlockAccessor.UNLOADED, accessor.getBlockStateId(0, 0, 0));
+    }
+
+    @Test
+    public void blockStates(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(-1, 0).join();
+        instance.setBlock(-1, 40, 2, Block.GOLD_BLOCK);
+        instance.setBlock(1, 39, 3, Block.DIAMOND_BLOCK);
+
+        // x: -2..1, y: 39..40, z: 0..16 (the last row is unloaded)
+        final int sizeX = 4, sizeY = 2, sizeZ = 17;
+        int[] states = new int[sizeX * sizeY * sizeZ];
+        instance.getBlockStates(new Vec(-2, 39, 0), new Vec(1, 40, 16), states);
+        for (int y = 39; y <= 40; y++) {
+            for (int z = 0; z <= 16; z++) {
+                for (int x = -2; x <= 1; x++) {
+                    final int state = states[((y - 39) * sizeZ + z) * sizeX + (x + 2)];
+                    final int expected = z == 16 ? BlockAccessor.UNLOADED : instance.getBlock(x, y, z).stateId();
+                    assertEquals(expected, state, "Invalid state at " + x + "," + y + "," + z);
+                }
+            }
+        }
+        assertEquals(Block.GOLD_BLOCK.stateId(), states[(sizeZ + 2) * sizeX + 1]);
+        assertEquals(Block.DIAMOND_BLOCK.stateId(), states[3 * sizeX + 3]);
+    }
+
+    @Test
+    public void blockStatesArguments(Env env) {
+        var instance = env.createFlatInstance();
+        assertThrows(IllegalArgumentException.class,
+                () -> instance.getBlockStates(new Vec(0, 0, 0), new Vec(1, 1, 1), new int[7]));
+        assertThrows(IllegalArgumentException.class,
+                () -> instance.getBlockStates(new Vec(1, 0, 0), new Vec(0, 0, 0), new int[8]));
+    }
+}
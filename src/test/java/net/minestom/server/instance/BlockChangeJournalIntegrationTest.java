@@ -0,0 +1,167 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.batch.BatchOption;
+import net.minestom.server.instance.batch.ChunkBatch;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class BlockChangeJournalIntegrationTest {
+
+    @Test
+    public void sectionPackets(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0)).join();
+        var chunk = instance.getChunk(0, 0);
+        assertNotNull(chunk);
+
+        Int2ObjectMap<Block> changes = new Int2ObjectOpenHashMap<>();
+        changes.put(ChunkUtils.getBlockIndex(1, 50, 2), Block.STONE);
+        changes.put(ChunkUtils.getBlockIndex(3, 51, 4), Block.DIRT);
+        changes.put(ChunkUtils.getBlockIndex(5, 70, 6), Block.GRASS_BLOCK);
+
+        var multiTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        var singleTracker = connection.trackIncoming(BlockChangePacket.class);
+        BlockChangeJournal.sendChanges(chunk, changes);
+        multiTracker.assertSingle(packet -> {
+            assertEquals(ChunkUtils.getChunkCoordinate(50), (int) (packet.chunkSectionPosition() << 44 >> 44));
+            assertEquals(2, packet.blocks().length);
+            for (long value : packet.blocks()) {
+                final int stateId = (int) (value >>> 12);
+                assertTrue(stateId == Block.STONE.stateId() || stateId == Block.DIRT.stateId());
+            }
+        });
+        singleTracker.assertSingle(packet -> {
+            assertEquals(new Vec(5, 70, 6), packet.blockPosition());
+            assertEquals(Block.GRASS_BLOCK.stateId(), packet.blockStateId());
+        });
+    }
+
+    @Test
+    public void replacedChange(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0)).join();
+        var chunk = instance.getChunk(0, 0);
+        assertNotNull(chunk);
+
+        var journal = new BlockChangeJournal();
+        journal.record(chunk, 1, 50, 2, Block.STONE);
+        journal.record(chunk, 1, 50, 2, Block.DIRT);
+        var multiTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        var singleTracker = connection.trackIncoming(BlockChangePacket.class);
+        journal.flush();
+        multiTracker.assertEmpty();
+        singleTracker.assertSingle(packet -> {
+            assertEquals(new Vec(1, 50, 2), packet.blockPosition());
+            assertEquals(Block.DIRT.stateId(), packet.blockStateId());
+        });
+
+        // Cleared once sent
+        singleTracker = connection.trackIncoming(BlockChangePacket.class);
+        journal.flush();
+        singleTracker.assertEmpty();
+    }
+
+    @Test
+    public void tickFlush(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.setCoalescedBlockUpdates(true);
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0)).join();
+
+        var multiTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        var singleTracker = connection.trackIncoming(BlockChangePacket.class);
+        instance.setBlock(1, 50, 2, Block.STONE);
+        instance.setBlock(3, 51, 4, Block.DIRT);
+        instance.setBlock(3, 51, 4, Block.GOLD_BLOCK);
+        multiTracker.assertEmpty();
+        singleTracker.assertEmpty();
+
+        env.tick();
+        multiTracker.assertSingle(packet -> {
+            assertEquals(2, packet.blocks().length);
+            for (long value : packet.blocks()) {
+                final int stateId = (int) (value >>> 12);
+                assertTrue(stateId == Block.STONE.stateId() || stateId == Block.GOLD_BLOCK.stateId());
+            }
+        });
+        singleTracker.assertEmpty();
+
+        // Sent immediately once disabled
+        instance.setCoalescedBlockUpdates(false);
+        singleTracker = connection.trackIncoming(BlockChangePacket.class);
+        instance.setBlock(1, 50, 2, Block.DIRT);
+        singleTracker.assertSingle(packet -> assertEquals(Block.DIRT.stateId(), packet.blockStateId()));
+    }
+
+    @Test
+    public void chunkResend(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0)).join();
+        var chunk = instance.getChunk(0, 0);
+        assertNotNull(chunk);
+
+        // A whole section, above the default threshold
+        Int2ObjectMap<Block> changes = new Int2ObjectOpenHashMap<>();
+        for (int x = 0; x < 16; x++) {
+            for (int y = 64; y < 80; y++) {
+                for (int z = 0; z < 16; z++) changes.put(ChunkUtils.getBlockIndex(x, y, z), Block.STONE);
+            }
+        }
+        var multiTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        var chunkTracker = connection.trackIncoming(ChunkDataPacket.class);
+        BlockChangeJournal.sendChanges(chunk, changes);
+        multiTracker.assertEmpty();
+        chunkTracker.assertSingle(packet -> {
+            assertEquals(0, packet.chunkX());
+            assertEquals(0, packet.chunkZ());
+        });
+    }
+
+    @Test
+    public void chunkBatch(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0)).join();
+        var chunk = instance.getChunk(0, 0);
+        assertNotNull(chunk);
+
+        // Resends the chunk by default, independently of the coalesced block updates
+        instance.setCoalescedBlockUpdates(true);
+        var batch = new ChunkBatch(new BatchOption().setExecutor(Runnable::run));
+        batch.setBlock(1, 50, 2, Block.STONE);
+        batch.setBlock(3, 51, 4, Block.DIRT);
+        var multiTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        var chunkTracker = connection.trackIncoming(ChunkDataPacket.class);
+        batch.unsafeApply(instance, chunk, null);
+        multiTracker.assertEmpty();
+        assertEquals(1, chunkTracker.collect().size());
+
+        // Only the changed blocks
+        instance.setCoalescedBlockUpdates(false);
+        batch = new ChunkBatch(new BatchOption().setSectionUpdate(true).setExecutor(Runnable::run));
+        batch.setBlock(1, 50, 2, Block.GOLD_BLOCK);
+        batch.setBlock(3, 51, 4, Block.DIAMOND_BLOCK);
+        multiTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        chunkTracker = connection.trackIncoming(ChunkDataPacket.class);
+        batch.unsafeApply(instance, chunk, null);
+        multiTracker.assertSingle(packet -> assertEquals(2, packet.blocks().length));
+        chunkTracker.assertEmpty();
+        assertEquals(Block.GOLD_BLOCK, instance.getBlock(1, 50, 2));
+    }
+}
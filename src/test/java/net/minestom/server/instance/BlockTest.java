@@ -59,6 +59,32 @@ public class BlockTest {
         assertThrows(Exception.class, () -> block.withProperties(Map.of("random", "randomKey")));
     }
 
+    @Test
+    public void indexedProperties() {
+        Block block = Block.REDSTONE_WIRE;
+        final int power = block.propertyIndex("power");
+        assertNotEquals(-1, power);
+        assertEquals(-1, block.propertyIndex("random"));
+        assertEquals(-1, block.propertyValueIndex(power, "random"));
+        for (int i = 0; i < 16; i++) {
+            final int valueIndex = block.propertyValueIndex(power, String.valueOf(i));
+            final Block powered = block.withProperty(power, valueIndex);
+            assertEquals(block.withProperty("power", String.valueOf(i)), powered);
+            assertEquals(String.valueOf(i), powered.getProperty("power"));
+            assertEquals(valueIndex, powered.getPropertyValueIndex(power));
+        }
+        // Transitions from every state
+        for (var possible : block.possibleStates()) {
+            assertEquals(possible, block.withProperties(possible.properties()));
+            assertEquals(block.properties(), possible.withProperties(block.properties()).properties());
+        }
+        // Nbt and handler are kept
+        var nbt = new NBTCompound(Map.of("key", NBT.Int(5)));
+        assertEquals(nbt, block.withNbt(nbt).withProperty(power, 3).nbt());
+        assertThrows(IllegalArgumentException.class, () -> block.withProperty(power, 16));
+        assertThrows(IllegalArgumentException.class, () -> block.withProperty(-1, 0));
+    }
+
     @Test
     public void testEquality() {
         var nbt = new NBTCompound(Map.of("key", NBT.Int(5)));
@@ -0,0 +1,109 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.utils.NamespaceID;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnvTest
+public class BlockTickIntervalIntegrationTest {
+
+    @Test
+    public void interval(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var ticks = new AtomicInteger();
+        instance.setBlock(0, 50, 0, Block.STONE.withHandler(new Handler(ticks, true, 5)));
+
+        for (int i = 0; i < 20; i++) env.tick();
+        assertEquals(4, ticks.get());
+    }
+
+    @Test
+    public void removedBlock(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var ticks = new AtomicInteger();
+        instance.setBlock(0, 50, 0, Block.STONE.withHandler(new Handler(ticks, true, 1)));
+        env.tick();
+        instance.setBlock(0, 50, 0, Block.AIR);
+        env.tick();
+        assertEquals(1, ticks.get());
+    }
+
+    @Test
+    public void scheduled(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var ticks = new AtomicInteger();
+        instance.setBlock(0, 50, 0, Block.STONE.withHandler(new Handler(ticks, false, 1)));
+        env.tick();
+        assertEquals(0, ticks.get());
+
+        instance.scheduleBlockTick(new Vec(0, 50, 0), 3);
+        env.tick();
+        env.tick();
+        assertEquals(0, ticks.get());
+        env.tick();
+        assertEquals(1, ticks.get());
+        for (int i = 0; i < 5; i++) env.tick();
+        assertEquals(1, ticks.get(), "Scheduled ticks must not repeat");
+    }
+
+    @Test
+    public void selfScheduled(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var ticks = new AtomicInteger();
+        instance.setBlock(0, 50, 0, Block.STONE.withHandler(new BlockHandler() {
+            @Override
+            public void tick(@NotNull Tick tick) {
+                ticks.incrementAndGet();
+                tick.getInstance().scheduleBlockTick(tick.getBlockPosition(), 10);
+            }
+
+            @Override
+            public boolean isTickable() {
+                return true;
+            }
+
+            @Override
+            public @NotNull NamespaceID getNamespaceId() {
+                return NamespaceID.from("minestom:test");
+            }
+        }));
+
+        for (int i = 0; i < 21; i++) env.tick();
+        assertEquals(3, ticks.get());
+    }
+
+    private record Handler(AtomicInteger ticks, boolean tickable, int interval) implements BlockHandler {
+        @Override
+        public void tick(@NotNull Tick tick) {
+            ticks.incrementAndGet();
+        }
+
+        @Override
+        public boolean isTickable() {
+            return tickable;
+        }
+
+        @Override
+        public int getTickInterval() {
+            return interval;
+        }
+
+        @Override
+        public @NotNull NamespaceID getNamespaceId() {
+            return NamespaceID.from("minestom:test");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockTickSchedulerTest {
+
+    @Test
+    public void delay() {
+        BlockTickScheduler scheduler = new BlockTickScheduler();
+        scheduler.schedule(1, 1);
+        scheduler.schedule(2, 3);
+        assertEquals(IntList.of(1), scheduler.poll());
+        assertEquals(IntList.of(), scheduler.poll());
+        assertEquals(IntList.of(2), scheduler.poll());
+        assertTrue(scheduler.isEmpty());
+    }
+
+    @Test
+    public void reschedule() {
+        BlockTickScheduler scheduler = new BlockTickScheduler();
+        scheduler.schedule(1, 1);
+        scheduler.schedule(1, 2);
+        assertTrue(scheduler.isScheduled(1));
+        assertEquals(IntList.of(), scheduler.poll());
+        assertEquals(IntList.of(1), scheduler.poll());
+        assertFalse(scheduler.isScheduled(1));
+    }
+
+    @Test
+    public void cancel() {
+        BlockTickScheduler scheduler = new BlockTickScheduler();
+        scheduler.schedule(1, 1);
+        scheduler.schedule(2, 1);
+        scheduler.cancel(1);
+        assertEquals(IntList.of(2), scheduler.poll());
+        scheduler.cancel(3);
+        assertTrue(scheduler.isEmpty());
+    }
+
+    @Test
+    public void sameTick() {
+        BlockTickScheduler scheduler = new BlockTickScheduler();
+        scheduler.schedule(1, 2);
+        scheduler.schedule(1, 2);
+        scheduler.schedule(2, 2);
+        assertEquals(IntList.of(), scheduler.poll());
+        assertEquals(IntList.of(1, 2), scheduler.poll());
+    }
+}
@@ -0,0 +1,75 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import net.minestom.server.instance.batch.AbsoluteBlockBatch;
+import net.minestom.server.instance.batch.BatchOption;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkBulkSetIntegrationTest {
+
+    @Test
+    public void setBlocks(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var chunk = instance.getChunk(0, 0);
+        assertNotNull(chunk);
+
+        Int2ObjectMap<Block> blocks = new Int2ObjectOpenHashMap<>();
+        // Full section, written at once
+        for (int x = 0; x < 16; x++) {
+            for (int y = 64; y < 80; y++) {
+                for (int z = 0; z < 16; z++) {
+                    blocks.put(ChunkUtils.getBlockIndex(x, y, z), Block.STONE);
+                }
+            }
+        }
+        // Few changes, written block by block
+        blocks.put(ChunkUtils.getBlockIndex(1, 39, 1), Block.DIAMOND_BLOCK);
+        blocks.put(ChunkUtils.getBlockIndex(2, 100, 3), Block.GOLD_BLOCK);
+
+        Map<Integer, Block> previous = new HashMap<>();
+        synchronized (chunk) {
+            chunk.setBlocks(blocks, (x, y, z, block) -> previous.put(ChunkUtils.getBlockIndex(x, y, z), block));
+        }
+        assertEquals(blocks.size(), previous.size());
+        assertEquals(Block.STONE, previous.get(ChunkUtils.getBlockIndex(1, 39, 1)));
+        assertEquals(Block.AIR, previous.get(ChunkUtils.getBlockIndex(5, 70, 5)));
+
+        assertEquals(Block.STONE, instance.getBlock(5, 70, 5));
+        assertEquals(Block.DIAMOND_BLOCK, instance.getBlock(1, 39, 1));
+        assertEquals(Block.GOLD_BLOCK, instance.getBlock(2, 100, 3));
+        assertEquals(Block.AIR, instance.getBlock(5, 80, 5));
+    }
+
+    @Test
+    public void applyAsync(Env env) throws Exception {
+        var instance = env.createFlatInstance();
+        for (int x = -1; x <= 1; x++) {
+            for (int z = -1; z <= 1; z++) instance.loadChunk(x, z).join();
+        }
+        AbsoluteBlockBatch batch = new AbsoluteBlockBatch(new BatchOption().setCalculateInverse(true));
+        for (int x = -16; x < 16; x++) {
+            for (int z = -16; z < 16; z++) batch.setBlock(x, 50, z, Block.STONE);
+        }
+        var inverse = batch.applyAsync(instance).get(5, TimeUnit.SECONDS);
+        assertEquals(Block.STONE, instance.getBlock(-16, 50, -16));
+        assertEquals(Block.STONE, instance.getBlock(15, 50, 15));
+        assertNotNull(inverse);
+
+        inverse.applyAsync(instance).get(5, TimeUnit.SECONDS);
+        assertEquals(Block.AIR, instance.getBlock(-16, 50, -16));
+        assertEquals(Block.AIR, instance.getBlock(15, 50, 15));
+    }
+}
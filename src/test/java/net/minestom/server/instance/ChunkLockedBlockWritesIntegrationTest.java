@@ -0,0 +1,159 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.instance.block.rule.BlockPlacementRule;
+import net.minestom.server.utils.NamespaceID;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkLockedBlockWritesIntegrationTest {
+
+    @Test
+    public void concurrentChunks(Env env) throws Exception {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.setChunkLockedBlockWrites(true);
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(2, 0).join();
+
+        // Both writes must be in progress at the same time
+        CountDownLatch placing = new CountDownLatch(2);
+        BlockHandler handler = new BlockHandler() {
+            @Override
+            public void onPlace(@NotNull Placement placement) {
+                placing.countDown();
+                try {
+                    assertTrue(placing.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public @NotNull NamespaceID getNamespaceId() {
+                return NamespaceID.from("minestom:test");
+            }
+        };
+        final Block block = Block.STONE.withHandler(handler);
+        var first = CompletableFuture.runAsync(() -> {
+            for (int x = 0; x < 16; x++) instance.setBlock(x, 50, 0, block);
+        });
+        var second = CompletableFuture.runAsync(() -> {
+            for (int x = 32; x < 48; x++) instance.setBlock(x, 50, 0, block);
+        });
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+        for (int x = 0; x < 16; x++) {
+            assertEquals(block, instance.getBlock(x, 50, 0));
+            assertEquals(block, instance.getBlock(x + 32, 50, 0));
+        }
+    }
+
+    @Test
+    public void recursiveHandlers(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.setChunkLockedBlockWrites(true);
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+
+        AtomicInteger placed = new AtomicInteger();
+        AtomicInteger destroyed = new AtomicInteger();
+        BlockHandler handler = new BlockHandler() {
+            @Override
+            public void onPlace(@NotNull Placement placement) {
+                placed.incrementAndGet();
+                // Placing the same block again does nothing
+                placement.getInstance().setBlock(placement.getBlockPosition(), placement.getBlock());
+            }
+
+            @Override
+            public void onDestroy(@NotNull Destroy destroy) {
+                destroyed.incrementAndGet();
+                // Destroys the whole line, including this block and across the chunk border
+                final Vec position = Vec.fromPoint(destroy.getBlockPosition());
+                destroy.getInstance().setBlock(position.add(1, 0, 0), Block.AIR);
+                destroy.getInstance().setBlock(position.sub(1, 0, 0), Block.AIR);
+                destroy.getInstance().setBlock(position, Block.AIR);
+            }
+
+            @Override
+            public @NotNull NamespaceID getNamespaceId() {
+                return NamespaceID.from("minestom:test");
+            }
+        };
+        final Block block = Block.STONE.withHandler(handler);
+        for (int x = 14; x < 18; x++) instance.setBlock(x, 50, 0, block);
+        assertEquals(4, placed.get());
+
+        instance.setBlock(15, 50, 0, Block.AIR);
+        assertEquals(4, destroyed.get());
+        for (int x = 14; x < 18; x++) assertEquals(Block.AIR, instance.getBlock(x, 50, 0));
+    }
+
+    @Test
+    public void neighboursAcrossChunks(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.setChunkLockedBlockWrites(true);
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+
+        // Lit when the block to the west is not air
+        env.process().block().registerBlockPlacementRule(new BlockPlacementRule(Block.REDSTONE_LAMP) {
+            @Override
+            public @NotNull Block blockUpdate(@NotNull UpdateState updateState) {
+                final Block west = updateState.instance().getBlock(updateState.blockPosition().sub(1, 0, 0));
+                return updateState.currentBlock().withProperty("lit", String.valueOf(!west.isAir()));
+            }
+
+            @Override
+            public @Nullable Block blockPlace(@NotNull PlacementState placementState) {
+                return block;
+            }
+        });
+
+        instance.setBlock(16, 50, 0, Block.REDSTONE_LAMP);
+        assertEquals("false", instance.getBlock(16, 50, 0).getProperty("lit"));
+        instance.setBlock(15, 50, 0, Block.STONE);
+        assertEquals("true", instance.getBlock(16, 50, 0).getProperty("lit"));
+        instance.setBlock(15, 50, 0, Block.AIR);
+        assertEquals("false", instance.getBlock(16, 50, 0).getProperty("lit"));
+    }
+
+    @Test
+    public void unloadedChunk(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.setChunkLockedBlockWrites(true);
+        var chunk = instance.loadChunk(0, 0).join();
+
+        // Unloaded while the placement rule is applied
+        env.process().block().registerBlockPlacementRule(new BlockPlacementRule(Block.REDSTONE_LAMP) {
+            @Override
+            public @NotNull Block blockUpdate(@NotNull UpdateState updateState) {
+                instance.unloadChunk(chunk);
+                return updateState.currentBlock();
+            }
+
+            @Override
+            public @Nullable Block blockPlace(@NotNull PlacementState placementState) {
+                return block;
+            }
+        });
+        instance.setBlock(1, 50, 1, Block.REDSTONE_LAMP);
+        assertFalse(chunk.isLoaded());
+        synchronized (chunk) {
+            assertEquals(Block.AIR, chunk.getBlock(1, 50, 1));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkRetentionIntegrationTest {
+
+    @Test
+    public void disabledByDefault(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        assertNull(instance.getChunkRetentionPolicy());
+        instance.loadChunk(0, 0).join();
+        tickScan(env);
+        assertNotNull(instance.getChunk(0, 0));
+        assertEquals(new ChunkRetentionPolicy.Statistics(1, 0, 0, 0), instance.getChunkRetentionStatistics());
+    }
+
+    @Test
+    public void idleUnload(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.setChunkRetentionPolicy(new ChunkRetentionPolicy(0, 0, false));
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(50, 50).join();
+        env.createPlayer(instance, new Pos(0, 40, 0));
+
+        tickScan(env);
+        assertNotNull(instance.getChunk(0, 0), "Viewed chunk must stay loaded");
+        assertNull(instance.getChunk(50, 50), "Idle chunk must be unloaded");
+        assertTrue(instance.getChunkRetentionStatistics().idleUnloads() >= 1);
+    }
+
+    @Test
+    public void gracePeriod(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.setChunkRetentionPolicy(new ChunkRetentionPolicy(ChunkRetention.SCAN_INTERVAL * 2, 0, false));
+        instance.loadChunk(50, 50).join();
+
+        tickScan(env);
+        assertNotNull(instance.getChunk(50, 50));
+        tickScan(env);
+        tickScan(env);
+        assertNull(instance.getChunk(50, 50));
+    }
+
+    @Test
+    public void eviction(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.setChunkRetentionPolicy(new ChunkRetentionPolicy(Integer.MAX_VALUE, 3, false));
+        for (int i = 0; i < 5; i++) instance.loadChunk(50 + i, 50).join();
+
+        tickScan(env);
+        var statistics = instance.getChunkRetentionStatistics();
+        assertEquals(3, statistics.loadedChunks());
+        assertEquals(2, statistics.evictions());
+        assertEquals(0, statistics.idleUnloads());
+    }
+
+    @Test
+    public void saveModified(Env env) {
+        var saved = new AtomicInteger();
+        var instance = (InstanceContainer) env.createFlatInstance(new IChunkLoader() {
+            @Override
+            public @NotNull CompletableFuture<Chunk> loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
+                saved.incrementAndGet();
+                return CompletableFuture.completedFuture(null);
+            }
+        });
+        instance.setChunkRetentionPolicy(new ChunkRetentionPolicy(0, 0, true));
+        instance.loadChunk(50, 50).join();
+        instance.loadChunk(60, 60).join();
+        instance.setBlock(50 * 16, 50, 50 * 16, Block.STONE);
+
+        tickScan(env);
+        assertEquals(1, saved.get(), "Only the modified chunk must be saved");
+        assertEquals(1, instance.getChunkRetentionStatistics().savedChunks());
+    }
+
+    @Test
+    public void unloadAfterSave(Env env) {
+        var saves = new ArrayList<CompletableFuture<Void>>();
+        var instance = (InstanceContainer) env.createFlatInstance(new IChunkLoader() {
+            @Override
+            public @NotNull CompletableFuture<Chunk> loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
+                var future = new CompletableFuture<Void>();
+                saves.add(future);
+                return future;
+            }
+        });
+        instance.setChunkRetentionPolicy(new ChunkRetentionPolicy(0, 0, true));
+        instance.loadChunk(50, 50).join();
+        instance.setBlock(50 * 16, 50, 50 * 16, Block.STONE);
+
+        // Kept loaded while being saved
+        tickScan(env);
+        tickScan(env);
+        assertEquals(1, saves.size(), "Chunk must only be saved once");
+        assertNotNull(instance.getChunk(50, 50));
+
+        // Unloaded on the next tick of the instance
+        saves.get(0).complete(null);
+        assertNotNull(instance.getChunk(50, 50));
+        env.tick();
+        assertNull(instance.getChunk(50, 50));
+    }
+
+    @Test
+    public void failedSave(Env env) {
+        var saves = new AtomicInteger();
+        var instance = (InstanceContainer) env.createFlatInstance(new IChunkLoader() {
+            @Override
+            public @NotNull CompletableFuture<Chunk> loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
+                saves.incrementAndGet();
+                return CompletableFuture.failedFuture(new IllegalStateException("Storage unavailable"));
+            }
+        });
+        instance.setChunkRetentionPolicy(new ChunkRetentionPolicy(0, 0, true));
+        instance.loadChunk(50, 50).join();
+        instance.setBlock(50 * 16, 50, 50 * 16, Block.STONE);
+
+        // Kept loaded and saved again on the next scan
+        tickScan(env);
+        assertNotNull(instance.getChunk(50, 50));
+        tickScan(env);
+        assertNotNull(instance.getChunk(50, 50));
+        assertEquals(2, saves.get());
+    }
+
+    private static void tickScan(Env env) {
+        for (int i = 0; i < ChunkRetention.SCAN_INTERVAL; i++) env.tick();
+    }
+}
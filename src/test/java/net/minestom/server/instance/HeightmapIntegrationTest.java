@@ -0,0 +1,97 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jglrxavpok.hephaistos.nbt.NBT;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnvTest
+public class HeightmapIntegrationTest {
+
+    @Test
+    public void generated(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = (DynamicChunk) instance.loadChunk(0, 0).join();
+        for (Heightmap.Type type : Heightmap.Type.values()) {
+            var heightmap = chunk.getHeightmap(type);
+            for (int x = 0; x < Chunk.CHUNK_SIZE_X; x++) {
+                for (int z = 0; z < Chunk.CHUNK_SIZE_Z; z++) {
+                    assertEquals(40, heightmap.getHeight(x, z), type + " at " + x + "," + z);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void setBlock(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = (DynamicChunk) instance.loadChunk(0, 0).join();
+        var worldSurface = chunk.getHeightmap(Heightmap.Type.WORLD_SURFACE);
+        var motionBlocking = chunk.getHeightmap(Heightmap.Type.MOTION_BLOCKING);
+        var oceanFloor = chunk.getHeightmap(Heightmap.Type.OCEAN_FLOOR);
+        assertEquals(40, worldSurface.getHeight(3, 5));
+
+        instance.setBlock(3, 60, 5, Block.STONE);
+        instance.setBlock(3, 70, 5, Block.WATER);
+        instance.setBlock(3, 80, 5, Block.TORCH);
+        assertEquals(81, worldSurface.getHeight(3, 5));
+        assertEquals(71, motionBlocking.getHeight(3, 5));
+        assertEquals(61, oceanFloor.getHeight(3, 5));
+
+        // Removing the highest block uncovers the blocks below
+        instance.setBlock(3, 80, 5, Block.AIR);
+        instance.setBlock(3, 70, 5, Block.AIR);
+        assertEquals(61, worldSurface.getHeight(3, 5));
+        assertEquals(61, motionBlocking.getHeight(3, 5));
+        instance.setBlock(3, 60, 5, Block.AIR);
+        instance.setBlock(3, 39, 5, Block.AIR);
+        assertEquals(39, oceanFloor.getHeight(3, 5));
+        assertEquals(40, worldSurface.getHeight(4, 5));
+    }
+
+    @Test
+    public void setBlocks(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = (DynamicChunk) instance.loadChunk(0, 0).join();
+        var worldSurface = chunk.getHeightmap(Heightmap.Type.WORLD_SURFACE);
+        assertEquals(40, worldSurface.getHeight(0, 0));
+
+        var blocks = new Int2ObjectOpenHashMap<Block>();
+        blocks.put(ChunkUtils.getBlockIndex(0, 100, 0), Block.STONE);
+        blocks.put(ChunkUtils.getBlockIndex(0, 39, 0), Block.AIR);
+        blocks.put(ChunkUtils.getBlockIndex(1, 39, 0), Block.AIR);
+        synchronized (chunk) {
+            chunk.setBlocks(blocks, null);
+        }
+        assertEquals(101, worldSurface.getHeight(0, 0));
+        assertEquals(39, worldSurface.getHeight(1, 0));
+    }
+
+    @Test
+    public void chunkPacket(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = (DynamicChunk) instance.loadChunk(0, 0).join();
+        instance.setBlock(0, 50, 0, Block.STONE);
+        final long[] motionBlocking = chunk.getHeightmap(Heightmap.Type.MOTION_BLOCKING).encode();
+        // 9 bits per entry for the 384 blocks of the overworld
+        assertEquals(51 - instance.getDimensionType().getMinY(), motionBlocking[0] & 0x1FF);
+        assertEquals(40 - instance.getDimensionType().getMinY(), motionBlocking[0] >> 9 & 0x1FF);
+
+        var connection = env.createConnection();
+        var tracker = connection.trackIncoming(ChunkDataPacket.class);
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+        var packet = tracker.collect().stream()
+                .filter(p -> p.chunkX() == 0 && p.chunkZ() == 0)
+                .findFirst().orElseThrow();
+        assertEquals(NBT.LongArray(motionBlocking), packet.chunkData().heightmaps().get("MOTION_BLOCKING"));
+        assertEquals(NBT.LongArray(chunk.getHeightmap(Heightmap.Type.WORLD_SURFACE).encode()),
+                packet.chunkData().heightmaps().get("WORLD_SURFACE"));
+    }
+}
@@ -0,0 +1,61 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NeighbourUpdateQueueTest {
+
+    @Test
+    public void deduplicate() {
+        var queue = new NeighbourUpdateQueue();
+        queue.add(1, 2, 3);
+        queue.add(1, 2, 3);
+        queue.add(3, 2, 1);
+        assertEquals(2, queue.size());
+
+        LongArrayList processed = new LongArrayList();
+        queue.process(processed::add);
+        assertEquals(new LongArrayList(new long[]{ChunkUtils.getGlobalBlockIndex(1, 2, 3), ChunkUtils.getGlobalBlockIndex(3, 2, 1)}), processed);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void iterative() {
+        var queue = new NeighbourUpdateQueue();
+        queue.add(0, 0, 0);
+        LongArrayList processed = new LongArrayList();
+        // Chain of updates, each queuing the next position
+        queue.process(position -> {
+            processed.add(position);
+            final int x = ChunkUtils.globalBlockIndexToPositionX(position);
+            if (x < 10_000) {
+                queue.add(x + 1, 0, 0);
+                queue.process(p -> {
+                    throw new IllegalStateException("Nested processing");
+                });
+            }
+        });
+        assertEquals(4096, processed.size());
+        // Carried over to the next tick
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void budget() {
+        var queue = new NeighbourUpdateQueue(2);
+        for (int i = 0; i < 5; i++) queue.add(i, 0, 0);
+        LongArrayList processed = new LongArrayList();
+        queue.process(processed::add);
+        assertEquals(2, processed.size());
+        // Budget exhausted until the next tick
+        queue.process(processed::add);
+        assertEquals(2, processed.size());
+        queue.newTick();
+        queue.process(processed::add);
+        assertEquals(4, processed.size());
+        assertEquals(1, queue.size());
+    }
+}
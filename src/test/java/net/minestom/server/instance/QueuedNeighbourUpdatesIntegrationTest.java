@@ -0,0 +1,80 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.rule.BlockPlacementRule;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnvTest
+public class QueuedNeighbourUpdatesIntegrationTest {
+    private static final int THREADS = 4;
+    private static final int LAMPS = 64;
+
+    @Test
+    public void neighbourUpdate(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.setQueuedNeighbourUpdates(true);
+        instance.loadChunk(0, 0).join();
+        registerLampRule(env);
+
+        instance.setBlock(1, 50, 0, Block.REDSTONE_LAMP);
+        instance.setBlock(0, 50, 0, Block.STONE);
+        assertEquals("true", instance.getBlock(1, 50, 0).getProperty("lit"));
+        instance.setBlock(0, 50, 0, Block.AIR);
+        assertEquals("false", instance.getBlock(1, 50, 0).getProperty("lit"));
+    }
+
+    @Test
+    public void concurrentWrites(Env env) throws Exception {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.setQueuedNeighbourUpdates(true);
+        for (int chunkX = 0; chunkX < LAMPS * 2 / 16; chunkX++) instance.loadChunk(chunkX, 0).join();
+        registerLampRule(env);
+
+        // Each thread lights its own row of lamps, no tick runs in between
+        List<CompletableFuture<Void>> writers = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            final int z = thread * 2;
+            writers.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < LAMPS; i++) {
+                    instance.setBlock(i * 2 + 1, 50, z, Block.REDSTONE_LAMP);
+                    instance.setBlock(i * 2, 50, z, Block.STONE);
+                }
+            }));
+        }
+        for (var writer : writers) writer.get(10, TimeUnit.SECONDS);
+
+        // No update may be left in the queue by a thread that stopped processing
+        for (int thread = 0; thread < THREADS; thread++) {
+            for (int i = 0; i < LAMPS; i++) {
+                assertEquals("true", instance.getBlock(i * 2 + 1, 50, thread * 2).getProperty("lit"));
+            }
+        }
+    }
+
+    private static void registerLampRule(Env env) {
+        // Lit when the block to the west is not air
+        env.process().block().registerBlockPlacementRule(new BlockPlacementRule(Block.REDSTONE_LAMP) {
+            @Override
+            public @NotNull Block blockUpdate(@NotNull UpdateState updateState) {
+                final Block west = updateState.instance().getBlock(updateState.blockPosition().sub(1, 0, 0));
+                return updateState.currentBlock().withProperty("lit", String.valueOf(!west.isAir()));
+            }
+
+            @Override
+            public @Nullable Block blockPlace(@NotNull PlacementState placementState) {
+                return block;
+            }
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.ExplosionPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class RaycastExplosionIntegrationTest {
+
+    @Test
+    public void destroyBlocks(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.setBlock(1, 39, 1, Block.BEDROCK);
+
+        var explosion = new RaycastExplosion(0.5f, 40, 0.5f, 4, true, false, new Random(0));
+        explosion.apply(instance);
+        assertEquals(Block.AIR, instance.getBlock(0, 39, 0));
+        assertEquals(Block.BEDROCK, instance.getBlock(1, 39, 1));
+        assertEquals(Block.STONE, instance.getBlock(0, 20, 0));
+    }
+
+    @Test
+    public void lastBlockChangeTime(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        final long previous = instance.getLastBlockChangeTime();
+        while (System.currentTimeMillis() <= previous) Thread.onSpinWait();
+
+        new RaycastExplosion(0.5f, 40, 0.5f, 4, true, false, new Random(0)).apply(instance);
+        assertTrue(instance.getLastBlockChangeTime() > previous);
+    }
+
+    @Test
+    public void readOnlyChunk(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = instance.loadChunk(0, 0).join();
+        chunk.setReadOnly(true);
+
+        new RaycastExplosion(0.5f, 40, 0.5f, 4, true, false, new Random(0)).apply(instance);
+        assertEquals(Block.STONE, instance.getBlock(0, 39, 0));
+    }
+
+    @Test
+    public void packet(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 100)).join();
+        instance.setExplosionSupplier(RaycastExplosion.SUPPLIER);
+
+        var tracker = connection.trackIncoming(ExplosionPacket.class);
+        instance.explode(0.5f, 40, 0.5f, 4);
+        tracker.assertSingle(packet -> {
+            assertTrue(packet.records().length > 0);
+            assertEquals(0, packet.records().length % 3);
+        });
+    }
+
+    @Test
+    public void noBlocks(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        new RaycastExplosion(0.5f, 40, 0.5f, 4, false, false, new Random(0)).apply(instance);
+        assertEquals(Block.STONE, instance.getBlock(0, 39, 0));
+    }
+
+    @Test
+    public void entityExposure(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var exposed = new LivingEntity(EntityType.ZOMBIE);
+        exposed.setInstance(instance, new Pos(2.5, 40, 0.5)).join();
+        var hidden = new LivingEntity(EntityType.ZOMBIE);
+        hidden.setInstance(instance, new Pos(-2.5, 40, 0.5)).join();
+        // Wall between the center and the hidden entity
+        for (int y = 40; y < 45; y++) {
+            for (int z = -2; z <= 2; z++) {
+                instance.setBlock(-1, y, z, Block.BEDROCK);
+            }
+        }
+
+        new RaycastExplosion(0.5f, 40.5f, 0.5f, 4, false, true, new Random(0)).apply(instance);
+        assertTrue(exposed.getHealth() < hidden.getHealth());
+        assertTrue(exposed.getVelocity().x() > 0);
+        assertEquals(Vec.ZERO, hidden.getVelocity().withY(0));
+    }
+}
@@ -0,0 +1,138 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.utils.NamespaceID;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class SimulationDistanceIntegrationTest {
+
+    @Test
+    public void disabledByDefault(Env env) {
+        var instance = env.createFlatInstance();
+        assertEquals(0, instance.getSimulationDistance());
+        assertTrue(instance.isChunkSimulated(1000, 1000));
+        assertThrows(IllegalArgumentException.class, () -> instance.setSimulationDistance(-1));
+    }
+
+    @Test
+    public void entityFrozen(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setSimulationDistance(1);
+        instance.loadChunk(10, 0).join();
+        env.createPlayer(instance, new Pos(0, 40, 0));
+
+        var near = new Entity(EntityType.ZOMBIE);
+        near.setInstance(instance, new Pos(16, 40, 0)).join();
+        var far = new Entity(EntityType.ZOMBIE);
+        far.setInstance(instance, new Pos(160, 40, 0)).join();
+
+        env.tick();
+        assertTrue(instance.isChunkSimulated(1, 1));
+        assertFalse(instance.isChunkSimulated(10, 0));
+        assertEquals(1, near.getAliveTicks());
+        assertEquals(0, far.getAliveTicks());
+
+        instance.setSimulationDistance(0);
+        env.tick();
+        assertEquals(2, near.getAliveTicks());
+        assertEquals(1, far.getAliveTicks());
+    }
+
+    @Test
+    public void blockHandlerFrozen(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setSimulationDistance(2);
+        instance.loadChunk(10, 0).join();
+        env.createPlayer(instance, new Pos(0, 40, 0));
+
+        var nearTicks = new AtomicInteger();
+        var farTicks = new AtomicInteger();
+        instance.setBlock(32, 40, 0, Block.STONE.withHandler(new TickingHandler(nearTicks)));
+        instance.setBlock(160, 40, 0, Block.STONE.withHandler(new TickingHandler(farTicks)));
+
+        env.tick();
+        assertEquals(1, nearTicks.get());
+        assertEquals(0, farTicks.get());
+    }
+
+    @Test
+    public void followsPlayer(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setSimulationDistance(1);
+        instance.loadChunk(10, 0).join();
+        var player = env.createPlayer(instance, new Pos(0, 40, 0));
+
+        env.tick();
+        assertTrue(instance.isChunkSimulated(0, 0));
+        assertFalse(instance.isChunkSimulated(10, 0));
+
+        player.teleport(new Pos(160, 40, 0)).join();
+        env.tick();
+        assertFalse(instance.isChunkSimulated(0, 0));
+        assertTrue(instance.isChunkSimulated(10, 0));
+        assertTrue(instance.isChunkSimulated(11, 1));
+    }
+
+    @Test
+    public void immediateUpdate(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(10, 0).join();
+        env.createPlayer(instance, new Pos(0, 40, 0));
+
+        // No tick needed
+        instance.setSimulationDistance(1);
+        assertTrue(instance.isChunkSimulated(0, 0));
+        assertFalse(instance.isChunkSimulated(10, 0));
+        instance.setSimulationDistance(10);
+        assertTrue(instance.isChunkSimulated(10, 0));
+    }
+
+    @Test
+    public void sharedInstance(Env env) {
+        var container = (InstanceContainer) env.createFlatInstance();
+        var shared = env.process().instance().createSharedInstance(container);
+        container.loadChunk(10, 0).join();
+        env.createPlayer(shared, new Pos(160, 40, 0));
+
+        // Applies to the container
+        shared.setSimulationDistance(1);
+        assertEquals(1, container.getSimulationDistance());
+        assertEquals(1, shared.getSimulationDistance());
+        assertTrue(container.isChunkSimulated(10, 0));
+        assertTrue(shared.isChunkSimulated(10, 0));
+        assertFalse(shared.isChunkSimulated(0, 0));
+
+        container.setSimulationDistance(0);
+        assertEquals(0, shared.getSimulationDistance());
+        assertTrue(shared.isChunkSimulated(0, 0));
+    }
+
+    private record TickingHandler(AtomicInteger ticks) implements BlockHandler {
+        @Override
+        public void tick(@NotNull Tick tick) {
+            ticks.incrementAndGet();
+        }
+
+        @Override
+        public boolean isTickable() {
+            return true;
+        }
+
+        @Override
+        public @NotNull NamespaceID getNamespaceId() {
+            return NamespaceID.from("minestom:test");
+        }
+    }
+}
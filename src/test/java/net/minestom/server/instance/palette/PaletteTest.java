@@ -246,6 +246,17 @@ public class PaletteTest {
         }
     }
 
+    @Test
+    public void replaceAllPartial() {
+        var palettes = testPalettes();
+        for (Palette palette : palettes) {
+            palette.setAll((x, y, z) -> x + 1);
+            // Only replace some entries, others must be kept
+            palette.replaceAll((x, y, z, value) -> y == 0 ? 100 : value);
+            palette.getAll((x, y, z, value) -> assertEquals(y == 0 ? 100 : x + 1, value));
+        }
+    }
+
     @Test
     public void replace() {
         var palettes = testPalettes();
@@ -10,8 +10,11 @@ import net.minestom.server.item.Material;
 import net.minestom.server.network.packet.server.play.EntityEquipmentPacket;
 import net.minestom.server.network.packet.server.play.SetSlotPacket;
 import net.minestom.server.network.packet.server.play.WindowItemsPacket;
+import net.minestom.server.utils.PacketUtils;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
@@ -67,6 +70,110 @@ public class InventoryIntegrationTest {
         packetTracker.assertSingle(slot -> assertEquals(ItemStack.AIR, slot.itemStack())); // Setting a slot should send a packet
     }
 
+    @Test
+    public void updateViewersTest(Env env) {
+        var instance = env.createFlatInstance();
+        var connection1 = env.createConnection();
+        var connection2 = env.createConnection();
+        var player1 = connection1.connect(instance, new Pos(0, 42, 0)).join();
+        var player2 = connection2.connect(instance, new Pos(0, 42, 0)).join();
+
+        Inventory inventory = new Inventory(InventoryType.CHEST_6_ROW, Component.empty());
+        player1.openInventory(inventory);
+        player2.openInventory(inventory);
+        inventory.setItemStack(1, MAGIC_STACK);
+        inventory.setCursorItem(player2, MAGIC_STACK);
+
+        var packetTracker1 = connection1.trackIncoming(WindowItemsPacket.class);
+        var packetTracker2 = connection2.trackIncoming(WindowItemsPacket.class);
+        inventory.update();
+        packetTracker1.assertSingle(packet -> {
+            assertEquals(MAGIC_STACK, packet.items().get(1));
+            assertEquals(ItemStack.AIR, packet.carriedItem());
+        });
+        packetTracker2.assertSingle(packet -> {
+            assertEquals(MAGIC_STACK, packet.items().get(1));
+            assertEquals(MAGIC_STACK, packet.carriedItem());
+        });
+    }
+
+    @Test
+    public void batchedSlotUpdatesTest(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+
+        Inventory inventory = new Inventory(InventoryType.CHEST_6_ROW, Component.empty());
+        inventory.setBatchedUpdates(true);
+        player.openInventory(inventory);
+
+        var slotTracker = connection.trackIncoming(SetSlotPacket.class);
+        var windowTracker = connection.trackIncoming(WindowItemsPacket.class);
+        inventory.setItemStack(3, ItemStack.of(Material.STONE));
+        inventory.setItemStack(3, MAGIC_STACK);
+        inventory.setItemStack(5, MAGIC_STACK);
+        slotTracker.assertEmpty(); // Changes are only sent once flushed
+
+        inventory.flush();
+        var packets = slotTracker.collect();
+        assertEquals(2, packets.size()); // The last change of each slot
+        assertEquals(3, packets.get(0).slot());
+        assertEquals(MAGIC_STACK, packets.get(0).itemStack());
+        assertEquals(5, packets.get(1).slot());
+        windowTracker.assertEmpty();
+
+        slotTracker = connection.trackIncoming(SetSlotPacket.class);
+        inventory.flush();
+        slotTracker.assertEmpty(); // Nothing left to send
+    }
+
+    @Test
+    public void batchedWindowUpdateTest(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+
+        Inventory inventory = new Inventory(InventoryType.CHEST_6_ROW, Component.empty());
+        inventory.setBatchedUpdates(true);
+        player.openInventory(inventory);
+
+        // Every slot changed, a single window packet is smaller than a packet per slot
+        var slotTracker = connection.trackIncoming(SetSlotPacket.class);
+        var windowTracker = connection.trackIncoming(WindowItemsPacket.class);
+        for (int i = 0; i < inventory.getSize(); i++) inventory.setItemStack(i, MAGIC_STACK);
+        inventory.flush();
+        slotTracker.assertEmpty();
+        windowTracker.assertSingle(packet -> assertEquals(MAGIC_STACK, packet.items().get(10)));
+
+        // Sizes used for the choice are the encoded sizes
+        var slotPacket = new SetSlotPacket(inventory.getWindowId(), 0, (short) 0, MAGIC_STACK);
+        var windowPacket = new WindowItemsPacket(inventory.getWindowId(), 0, List.of(inventory.getItemStacks()), ItemStack.AIR);
+        assertTrue(inventory.getSize() * PacketUtils.framedSize(slotPacket) > PacketUtils.framedSize(windowPacket));
+    }
+
+    @Test
+    public void batchedUpdatesTickTest(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+
+        Inventory inventory = new Inventory(InventoryType.CHEST_6_ROW, Component.empty());
+        inventory.setBatchedUpdates(true);
+        player.openInventory(inventory);
+
+        var slotTracker = connection.trackIncoming(SetSlotPacket.class);
+        inventory.setItemStack(3, MAGIC_STACK);
+        slotTracker.assertEmpty();
+        env.tick(); // Player#update flushes its open inventory
+        slotTracker.assertSingle(slot -> assertEquals(MAGIC_STACK, slot.itemStack()));
+
+        // Disabling batching sends the pending changes
+        slotTracker = connection.trackIncoming(SetSlotPacket.class);
+        inventory.setItemStack(4, MAGIC_STACK);
+        inventory.setBatchedUpdates(false);
+        slotTracker.assertSingle(slot -> assertEquals(4, slot.slot()));
+    }
+
     @Test
     public void clearInventoryTest(Env env) {
         var instance = env.createFlatInstance();
@@ -0,0 +1,52 @@
+package net.minestom.server.network;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ComponentJsonTest {
+
+    @Test
+    public void sameAsGson() {
+        final List<Component> components = List.of(
+                Component.empty(),
+                Component.text("Hello world"),
+                Component.text("Quotes \" and \\ backslash\nnew line \u0001 héllo"),
+                Component.text("Colored", NamedTextColor.RED),
+                Component.text("Hex", TextColor.color(0x123456), TextDecoration.BOLD),
+                Component.text("Decorations").decoration(TextDecoration.ITALIC, false).decorate(TextDecoration.UNDERLINED),
+                Component.text("Style").font(Key.key("uniform")).insertion("insert")
+                        .clickEvent(ClickEvent.runCommand("/help")),
+                Component.text("Parent").append(Component.text("child", NamedTextColor.GREEN)).append(Component.text("other")),
+                Component.translatable("chat.type.text", Component.text("Player"), Component.text("message")),
+                Component.translatable("multiplayer.player.joined", NamedTextColor.YELLOW),
+                // Gson fallback
+                Component.keybind("key.jump"),
+                Component.text("Hover").hoverEvent(HoverEvent.showText(Component.text("tooltip"))),
+                Component.text("Nested").append(Component.keybind("key.sneak"))
+        );
+        for (Component component : components) {
+            final String json = ComponentJson.serialize(component);
+            assertEquals(component, GsonComponentSerializer.gson().deserialize(json), json);
+            assertEquals(json, new String(ComponentJson.encode(component), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void cached() {
+        final Component component = Component.text("Title", NamedTextColor.GOLD);
+        assertSame(ComponentJson.encode(component), ComponentJson.encode(component));
+    }
+}
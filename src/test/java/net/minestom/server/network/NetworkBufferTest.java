@@ -8,12 +8,14 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.util.UUID;
 import java.util.*;
 
 import static net.minestom.server.network.NetworkBuffer.*;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 public class NetworkBufferTest {
 
@@ -97,6 +99,19 @@ public class NetworkBufferTest {
             buffer.write(BYTE, (byte) 1);
             buffer.write(LONG, 50L);
         }));
+
+        final byte[] large = new byte[1000];
+        large[999] = 5;
+        assertArrayEquals(large, NetworkBuffer.makeArray(buffer -> buffer.write(RAW_BYTES, large)));
+    }
+
+    @Test
+    public void resizeHeap() {
+        var buffer = new NetworkBuffer(ByteBuffer.allocate(2));
+        buffer.write(LONG, 50L);
+        assertEquals(8, buffer.writeIndex());
+        assertFalse(buffer.nioBuffer.isDirect());
+        assertEquals(50L, buffer.read(LONG));
     }
 
     @Test
@@ -233,6 +248,10 @@ public class NetworkBufferTest {
     @Test
     public void string() {
         assertBufferType(STRING, "Hello World", new byte[]{0x0B, 0x48, 0x65, 0x6c, 0x6c, 0x6f, 0x20, 0x57, 0x6f, 0x72, 0x6c, 0x64});
+        assertBufferType(STRING, "", new byte[]{0x00});
+        assertBufferType(STRING, "é", new byte[]{0x02, (byte) 0xc3, (byte) 0xa9});
+        assertBufferType(STRING, "a".repeat(200));
+        assertBufferType(STRING, "a".repeat(200) + "é");
     }
 
     @Test
@@ -257,6 +276,25 @@ public class NetworkBufferTest {
         assertBufferType(ITEM, ItemStack.AIR);
         assertBufferType(ITEM, ItemStack.of(Material.STONE, 1));
         assertBufferType(ITEM, ItemStack.of(Material.DIAMOND_AXE, 1).withMeta(builder -> builder.damage(1)));
+        // Cached meta encoding shared by different amounts
+        var item = ItemStack.of(Material.STONE, 1).withMeta(builder -> builder.customModelData(5));
+        assertBufferType(ITEM, item);
+        assertBufferType(ITEM, item.withAmount(64));
+        assertBufferType(ITEM, item.withMeta(builder -> builder.customModelData(6)));
+    }
+
+    @Test
+    public void sizes() {
+        for (int value : new int[]{0, 1, 127, 128, 25565, 2097151, 2097152, Integer.MAX_VALUE, -1, Integer.MIN_VALUE}) {
+            assertEquals(NetworkBuffer.makeArray(buffer -> buffer.write(VAR_INT, value)).length, varIntSize(value), String.valueOf(value));
+        }
+        for (long value : new long[]{0, 1, 127, 128, Integer.MAX_VALUE, Long.MAX_VALUE >> 3, Long.MAX_VALUE, -1, Long.MIN_VALUE}) {
+            assertEquals(NetworkBuffer.makeArray(buffer -> buffer.write(VAR_LONG, value)).length, varLongSize(value), String.valueOf(value));
+        }
+        for (ItemStack item : List.of(ItemStack.AIR, ItemStack.of(Material.STONE, 64),
+                ItemStack.of(Material.DIAMOND_AXE, 1).withMeta(builder -> builder.damage(1)))) {
+            assertEquals(NetworkBuffer.makeArray(buffer -> buffer.write(ITEM, item)).length, itemSize(item), item.toString());
+        }
     }
 
     @Test
@@ -3,6 +3,7 @@ package net.minestom.server.network;
 import com.google.gson.JsonObject;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
+import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.crypto.ChatSession;
 import net.minestom.server.crypto.PlayerPublicKey;
@@ -119,6 +120,10 @@ public class PacketWriteReadTest {
         SERVER_PACKETS.add(new EntityPositionPacket(5, (short) 0, (short) 0, (short) 0, true));
         SERVER_PACKETS.add(new EntityPropertiesPacket(5, List.of()));
         SERVER_PACKETS.add(new EntityRotationPacket(5, 45f, 45f, false));
+        SERVER_PACKETS.add(new EntityTeleportPacket(500, new Pos(5, 5, 5, 45f, 45f), true));
+        SERVER_PACKETS.add(new EntityVelocityPacket(5, (short) 200, (short) -200, (short) 0));
+        SERVER_PACKETS.add(new SetSlotPacket((byte) 1, 5, (short) 2, ItemStack.of(Material.DIAMOND_SWORD)));
+        SERVER_PACKETS.add(new WindowItemsPacket((byte) 1, 300, List.of(ItemStack.AIR, ItemStack.of(Material.STONE, 64)), ItemStack.AIR));
 
         final PlayerSkin skin = new PlayerSkin("hh", "hh");
         List<PlayerInfoUpdatePacket.Property> prop = List.of(new PlayerInfoUpdatePacket.Property("textures", skin.textures(), skin.signature()));
@@ -156,6 +161,9 @@ public class PacketWriteReadTest {
     private static void testPacket(NetworkBuffer.Writer writeable) {
         try {
             byte[] bytes = NetworkBuffer.makeArray(buffer -> buffer.write(writeable));
+            if (writeable instanceof NetworkBuffer.SizedWriter sized) {
+                assertEquals(bytes.length, sized.sizeOf(), writeable.toString());
+            }
             var readerConstructor = writeable.getClass().getConstructor(NetworkBuffer.class);
 
             NetworkBuffer reader = new NetworkBuffer();
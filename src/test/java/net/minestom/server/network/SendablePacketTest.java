@@ -7,6 +7,10 @@ import net.minestom.server.network.packet.server.play.SystemChatPacket;
 import net.minestom.server.utils.PacketUtils;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,10 +39,60 @@ public class SendablePacketTest {
         var buffer = PacketUtils.allocateTrimmedPacket(packet);
         var cachedBuffer = cached.body();
         assertEquals(buffer.body(), cachedBuffer);
-        // May fail in the very unlikely case where soft references are cleared
-        // Rare enough to make this test worth it
         assertSame(cached.body(), cachedBuffer);
 
         assertSame(packet, cached.packet());
     }
+
+    @Test
+    public void cachedInvalidate() {
+        var packet = new SystemChatPacket(Component.text("Hello World!"), false);
+        var cached = new CachedPacket(packet);
+        assertFalse(cached.isValid());
+
+        final long misses = CachedPacket.storeStats().missCount();
+        var body = cached.body();
+        assertTrue(cached.isValid());
+        assertTrue(CachedPacket.storeStats().missCount() > misses);
+        assertTrue(CachedPacket.storeSize() >= 0);
+
+        cached.invalidate();
+        assertFalse(cached.isValid());
+        assertNotSame(body, cached.body());
+        assertEquals(body, cached.body());
+    }
+
+    @Test
+    public void cachedSupplierLock() {
+        var packet = new SystemChatPacket(Component.text("Hello World!"), false);
+        final Object lock = new Object();
+        var entered = new CountDownLatch(1);
+        var cached = new CachedPacket(() -> {
+            entered.countDown();
+            synchronized (lock) {
+                return packet;
+            }
+        });
+        // Invalidating while holding a lock required by the supplier, like chunk writes
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            CompletableFuture<ByteBuffer> body;
+            synchronized (lock) {
+                body = CompletableFuture.supplyAsync(cached::body);
+                entered.await();
+                cached.invalidate();
+            }
+            assertEquals(PacketUtils.allocateTrimmedPacket(packet).body(), body.join());
+        });
+    }
+
+    @Test
+    public void transientPacket() {
+        var packet = new SystemChatPacket(Component.text("Hello World!"), false);
+        final long requests = CachedPacket.storeStats().requestCount();
+        var cached = CachedPacket.transientPacket(packet);
+        var body = cached.body();
+        assertTrue(cached.isValid());
+        assertSame(body, cached.body());
+        assertEquals(requests, CachedPacket.storeStats().requestCount(), "Transient packets must not use the store");
+    }
 }
@@ -0,0 +1,101 @@
+package net.minestom.server.registry;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegistrySnapshotTest {
+    private static final RegistrySnapshot.Source SOURCE = new RegistrySnapshot.Source(1234, 0xCAFE);
+
+    @Test
+    public void generated() throws IOException {
+        for (Registry.Resource resource : Registry.Resource.values()) {
+            final Map<String, Map<String, Object>> snapshot = RegistrySnapshot.load(resource.name);
+            assertNotNull(snapshot, "Missing snapshot for " + resource);
+            final Map<String, Map<String, Object>> json = Registry.loadJson(resource);
+            // Same entries, values and iteration order as the JSON loader
+            assertEquals(List.copyOf(json.keySet()), List.copyOf(snapshot.keySet()), resource.name);
+            assertEquals(json, snapshot, resource.name);
+            assertEquals(json, Registry.load(resource), resource.name);
+        }
+    }
+
+    @Test
+    public void read() throws IOException {
+        final Map<String, Map<String, Object>> entries = RegistrySnapshot.read(ByteBuffer.wrap(snapshot(SOURCE)), SOURCE);
+        assertNotNull(entries);
+        assertEquals(2, entries.size());
+        assertEquals(Map.of("id", 0L, "solid", true, "friction", 0.6, "shape", List.of("minecraft:stone")),
+                entries.get("minecraft:stone"));
+        assertEquals(Map.of("id", 1L, "solid", false, "friction", 0.6, "shape", List.of("minecraft:stone")),
+                entries.get("minecraft:dirt"));
+        assertNull(entries.get("minecraft:air"));
+        // Strings are shared
+        assertSame(entries.get("minecraft:stone").get("shape"), entries.get("minecraft:stone").get("shape"));
+        assertSame(((List<?>) entries.get("minecraft:stone").get("shape")).get(0),
+                ((List<?>) entries.get("minecraft:dirt").get("shape")).get(0));
+    }
+
+    @Test
+    public void outdated() throws IOException {
+        final byte[] snapshot = snapshot(SOURCE);
+        assertNull(RegistrySnapshot.read(ByteBuffer.wrap(snapshot), new RegistrySnapshot.Source(1234, 0xBEEF)));
+        assertNull(RegistrySnapshot.read(ByteBuffer.wrap(snapshot), new RegistrySnapshot.Source(1235, 0xCAFE)));
+    }
+
+    @Test
+    public void invalidHeader() {
+        assertNull(RegistrySnapshot.read(ByteBuffer.wrap(new byte[]{0, 0, 0, 0, 2}), SOURCE));
+        assertNull(RegistrySnapshot.read(ByteBuffer.wrap(new byte[]{0x4D, 0x52, 0x45, 0x47, 1, 0, 0, 0, 0, 0, 0, 0, 0}), SOURCE));
+    }
+
+    private static byte[] snapshot(RegistrySnapshot.Source source) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0x4D524547);
+        out.writeByte(2);
+        out.writeInt(source.length());
+        out.writeInt(source.checksum());
+        // Strings
+        final List<String> strings = List.of("minecraft:stone", "id", "solid", "shape", "minecraft:dirt", "friction");
+        out.writeByte(strings.size());
+        for (String string : strings) {
+            final byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+            out.writeByte(utf8.length);
+            out.write(utf8);
+        }
+        // Entries
+        out.writeByte(2);
+        for (int i = 0; i < 2; i++) {
+            ByteArrayOutputStream entryBytes = new ByteArrayOutputStream();
+            DataOutputStream entry = new DataOutputStream(entryBytes);
+            entry.writeByte(0); // map
+            entry.writeByte(4);
+            entry.writeByte(1); // id
+            entry.writeByte(3);
+            entry.writeLong(i);
+            entry.writeByte(2); // solid
+            entry.writeByte(i == 0 ? 5 : 6);
+            entry.writeByte(5); // friction
+            entry.writeByte(4);
+            entry.writeDouble(0.6);
+            entry.writeByte(3); // shape
+            entry.writeByte(1); // list
+            entry.writeByte(1);
+            entry.writeByte(2);
+            entry.writeByte(0);
+            out.writeByte(i == 0 ? 0 : 4);
+            out.writeByte(entryBytes.size());
+            out.write(entryBytes.toByteArray());
+        }
+        return bytes.toByteArray();
+    }
+}
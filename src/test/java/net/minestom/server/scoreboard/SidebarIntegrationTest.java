@@ -0,0 +1,55 @@
+package net.minestom.server.scoreboard;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.server.play.TeamsPacket;
+import net.minestom.server.network.packet.server.play.UpdateScorePacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class SidebarIntegrationTest {
+
+    @Test
+    public void setLinesDiff(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+
+        Sidebar sidebar = new Sidebar(Component.text("Title"));
+        sidebar.addViewer(player);
+        sidebar.setLines(List.of(
+                new Sidebar.ScoreboardLine("a", Component.text("A"), 2),
+                new Sidebar.ScoreboardLine("b", Component.text("B"), 1)));
+        assertEquals(2, sidebar.getLines().size());
+
+        // Same state, nothing to send
+        var teamTracker = connection.trackIncoming(TeamsPacket.class);
+        var scoreTracker = connection.trackIncoming(UpdateScorePacket.class);
+        sidebar.setLines(List.of(
+                new Sidebar.ScoreboardLine("a", Component.text("A"), 2),
+                new Sidebar.ScoreboardLine("b", Component.text("B"), 1)));
+        teamTracker.assertEmpty();
+        scoreTracker.assertEmpty();
+
+        // Only the modified content
+        teamTracker = connection.trackIncoming(TeamsPacket.class);
+        scoreTracker = connection.trackIncoming(UpdateScorePacket.class);
+        sidebar.setLines(List.of(
+                new Sidebar.ScoreboardLine("a", Component.text("A"), 2),
+                new Sidebar.ScoreboardLine("b", Component.text("B2"), 1)));
+        teamTracker.assertSingle(packet -> assertInstanceOf(TeamsPacket.UpdateTeamAction.class, packet.action()));
+        scoreTracker.assertEmpty();
+        assertEquals(Component.text("B2"), sidebar.getLine("b").getContent());
+
+        // Removed line
+        sidebar.setLines(List.of(new Sidebar.ScoreboardLine("a", Component.text("A"), 3)));
+        assertNull(sidebar.getLine("b"));
+        assertEquals(3, sidebar.getLine("a").getLine());
+    }
+}
@@ -0,0 +1,49 @@
+package net.minestom.server.scoreboard;
+
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.server.play.TeamsPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class TeamIntegrationTest {
+
+    @Test
+    public void updatePacket(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+        Team team = env.process().team().createTeam("team");
+
+        var tracker = connection.trackIncoming(TeamsPacket.class);
+        team.updateTeamColor(NamedTextColor.RED);
+        tracker.assertSingle(packet -> {
+            var action = assertInstanceOf(TeamsPacket.UpdateTeamAction.class, packet.action());
+            assertEquals(NamedTextColor.RED, action.teamColor());
+        });
+
+        // Same state, nothing to send
+        tracker = connection.trackIncoming(TeamsPacket.class);
+        team.updateTeamColor(NamedTextColor.RED);
+        tracker.assertEmpty();
+
+        // Silent change sent to the player through the creation packet
+        team.setTeamColor(NamedTextColor.BLUE);
+        tracker = connection.trackIncoming(TeamsPacket.class);
+        player.setTeam(team);
+        assertTrue(tracker.collect().stream().anyMatch(packet -> packet.action() instanceof TeamsPacket.CreateTeamAction action &&
+                action.teamColor() == NamedTextColor.BLUE));
+
+        // The last update no longer reflects the client state
+        tracker = connection.trackIncoming(TeamsPacket.class);
+        team.updateTeamColor(NamedTextColor.RED);
+        tracker.assertSingle(packet -> {
+            var action = assertInstanceOf(TeamsPacket.UpdateTeamAction.class, packet.action());
+            assertEquals(NamedTextColor.RED, action.teamColor());
+        });
+    }
+}
@@ -5,7 +5,7 @@ import net.minestom.testing.EnvTest;
 import net.minestom.server.instance.block.Block;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
 public class ChunkSnapshotIntegrationTest {
@@ -23,4 +23,24 @@ public class ChunkSnapshotIntegrationTest {
         var chunk = inst.chunks().iterator().next();
         assertEquals(Block.STONE, chunk.getBlock(0, 0, 0));
     }
+
+    @Test
+    public void reuseUnchangedSections(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setBlock(0, 0, 0, Block.STONE);
+        var first = (SnapshotImpl.Chunk) ServerSnapshot.update().instances().iterator().next().chunks().iterator().next();
+        var second = (SnapshotImpl.Chunk) ServerSnapshot.update().instances().iterator().next().chunks().iterator().next();
+        assertSame(first.sections(), second.sections());
+        assertSame(first.blockEntries(), second.blockEntries());
+
+        instance.setBlock(0, 0, 0, Block.GRASS_BLOCK);
+        var third = (SnapshotImpl.Chunk) ServerSnapshot.update().instances().iterator().next().chunks().iterator().next();
+        assertNotSame(second.sections(), third.sections());
+        assertEquals(Block.STONE, second.getBlock(0, 0, 0));
+        assertEquals(Block.GRASS_BLOCK, third.getBlock(0, 0, 0));
+        // Only the modified section is captured again
+        final int modified = -first.minSection();
+        assertNotSame(second.sections()[modified], third.sections()[modified]);
+        assertSame(second.sections()[modified + 1], third.sections()[modified + 1]);
+    }
 }
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -25,6 +26,63 @@ public class TestScheduler {
         assertFalse(task.isAlive(), "Tick task should be cancelled after execution");
     }
 
+    @Test
+    public void longTickTask() {
+        // Delays covering every wheel level
+        for (int delay : new int[]{1, 255, 256, 257, 1000, 16_384, 20_000, 1_048_576, 1_100_000}) {
+            Scheduler scheduler = Scheduler.newScheduler();
+            // Offset the current tick to not always start aligned
+            for (int i = 0; i < 100; i++) scheduler.processTick();
+            AtomicInteger result = new AtomicInteger();
+            scheduler.buildTask(result::incrementAndGet)
+                    .delay(TaskSchedule.tick(delay))
+                    .schedule();
+            for (int i = 0; i < delay - 1; i++) scheduler.processTick();
+            assertEquals(0, result.get(), "Task executed too early with delay " + delay);
+            scheduler.processTick();
+            assertEquals(1, result.get(), "Task not executed with delay " + delay);
+        }
+    }
+
+    @Test
+    public void cancelTickTask() {
+        Scheduler scheduler = Scheduler.newScheduler();
+        AtomicBoolean result = new AtomicBoolean(false);
+        var task = scheduler.buildTask(() -> result.set(true))
+                .delay(TaskSchedule.tick(500))
+                .schedule();
+        task.cancel();
+        for (int i = 0; i < 600; i++) scheduler.processTick();
+        assertFalse(result.get(), "Task should be cancelled");
+    }
+
+    @Test
+    public void repeatingTickTask() {
+        Scheduler scheduler = Scheduler.newScheduler();
+        AtomicInteger result = new AtomicInteger();
+        scheduler.buildTask(result::incrementAndGet)
+                .repeat(TaskSchedule.tick(300))
+                .schedule();
+        for (int i = 0; i < 3000; i++) scheduler.processTick();
+        assertEquals(10, result.get());
+    }
+
+    @Test
+    public void customAsyncExecutor() throws InterruptedException {
+        AtomicInteger executed = new AtomicInteger();
+        Scheduler scheduler = Scheduler.newScheduler(runnable -> {
+            executed.incrementAndGet();
+            runnable.run();
+        });
+        AtomicBoolean result = new AtomicBoolean(false);
+        scheduler.buildTask(() -> result.set(true))
+                .executionType(ExecutionType.ASYNC)
+                .schedule();
+        scheduler.process();
+        assertTrue(result.get());
+        assertEquals(1, executed.get());
+    }
+
     @Test
     public void durationTask() throws InterruptedException {
         Scheduler scheduler = Scheduler.newScheduler();
@@ -5,6 +5,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 
 import java.util.*;
 import java.util.stream.Stream;
@@ -47,5 +48,16 @@ public class ChunkUtilsTest {
         );
     }
 
+    @Test
+    public void globalBlockIndex() {
+        final int[][] positions = {{0, 0, 0}, {-1, -64, -1}, {30_000_000, 319, -30_000_000}, {-30_000_000, -2048, 12}};
+        for (int[] position : positions) {
+            final long index = ChunkUtils.getGlobalBlockIndex(position[0], position[1], position[2]);
+            Assertions.assertEquals(position[0], ChunkUtils.globalBlockIndexToPositionX(index));
+            Assertions.assertEquals(position[1], ChunkUtils.globalBlockIndexToPositionY(index));
+            Assertions.assertEquals(position[2], ChunkUtils.globalBlockIndexToPositionZ(index));
+        }
+    }
+
     private record ChunkCoordinate(int x, int z) {}
 }
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,4 +45,44 @@ public class ObjectPoolTest {
         }
         assertEquals(1, pool.count());
     }
+
+    @Test
+    public void statistics() {
+        var pool = ObjectPool.BUFFER_POOL;
+        pool.clear();
+        final var initial = pool.statistics();
+
+        var buffer = pool.get();
+        pool.add(buffer);
+        assertSame(buffer, pool.get());
+        pool.add(buffer);
+
+        final var statistics = pool.statistics();
+        assertEquals(initial.allocations() + 1, statistics.allocations());
+        assertEquals(initial.reuses() + 1, statistics.reuses());
+        assertEquals(1, statistics.pooled());
+    }
+
+    @Test
+    public void threadCache() throws InterruptedException {
+        var pool = ObjectPool.BUFFER_POOL;
+        pool.clear();
+        var first = pool.get();
+        var second = pool.get();
+        var third = pool.get();
+        pool.add(first);
+        pool.add(second);
+        pool.add(third);
+        assertEquals(3, pool.count());
+
+        // Only the overflow reaches the shared pool
+        AtomicInteger sharedCount = new AtomicInteger();
+        Thread thread = new Thread(() -> sharedCount.set(pool.count()));
+        thread.start();
+        thread.join();
+        assertEquals(1, sharedCount.get());
+        assertSame(second, pool.get());
+        assertSame(first, pool.get());
+        assertSame(third, pool.get());
+    }
 }
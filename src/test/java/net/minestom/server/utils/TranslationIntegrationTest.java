@@ -2,6 +2,7 @@ package net.minestom.server.utils;
 
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import net.kyori.adventure.translation.GlobalTranslator;
 import net.kyori.adventure.translation.TranslationRegistry;
 import net.minestom.server.adventure.MinestomAdventure;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import java.text.MessageFormat;
 import java.util.List;
+import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -25,6 +27,7 @@ public class TranslationIntegrationTest {
     static void translator() {
         final var translator = TranslationRegistry.create(Key.key("test.reg"));
         translator.register("test.key", MinestomAdventure.getDefaultLocale(), new MessageFormat("This is a test message", MinestomAdventure.getDefaultLocale()));
+        translator.register("test.key", Locale.ITALIAN, new MessageFormat("Questo è un messaggio di prova", Locale.ITALIAN));
 
         GlobalTranslator.translator().addSource(translator);
     }
@@ -48,6 +51,26 @@ public class TranslationIntegrationTest {
         });
     }
 
+    @Test
+    public void testTranslationPerLocale(final Env env) {
+        final var instance = env.createFlatInstance();
+        final var connection1 = env.createConnection();
+        final var connection2 = env.createConnection();
+        final var player1 = connection1.connect(instance, new Pos(0, 40, 0)).join();
+        final var player2 = connection2.connect(instance, new Pos(0, 40, 0)).join();
+        player2.setLocale(Locale.ITALIAN);
+        final var collector1 = connection1.trackIncoming(SystemChatPacket.class);
+        final var collector2 = connection2.trackIncoming(SystemChatPacket.class);
+
+        MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION = true;
+        final var packet = new SystemChatPacket(Component.translatable("test.key"), false);
+        PacketUtils.sendGroupedPacket(List.of(player1, player2), packet);
+        MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION = false;
+
+        collector1.assertSingle(received -> assertEquals("This is a test message", PlainTextComponentSerializer.plainText().serialize(received.message())));
+        collector2.assertSingle(received -> assertEquals("Questo è un messaggio di prova", PlainTextComponentSerializer.plainText().serialize(received.message())));
+    }
+
     @Test
     public void testTranslationDisabled(final Env env) {
         final var instance = env.createFlatInstance();